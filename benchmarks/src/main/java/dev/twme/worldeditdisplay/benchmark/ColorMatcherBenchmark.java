@@ -0,0 +1,80 @@
+package dev.twme.worldeditdisplay.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.twme.worldeditdisplay.common.ColorMatcher;
+import dev.twme.worldeditdisplay.harness.HeadlessServer;
+
+/**
+ * Colour to material matching for CUI colour events. Material colours come
+ * from block data, so this runs on the headless server.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColorMatcherBenchmark {
+
+    private static final int COLORS = 1024;
+
+    private HeadlessServer server;
+    private int[] colors;
+    private String[] hexColors;
+    private int next;
+
+    @Setup
+    public void setup() {
+        server = HeadlessServer.start();
+        ColorMatcher.initialize();
+
+        Random random = new Random(0);
+        colors = new int[COLORS];
+        for (int i = 0; i < COLORS; i++) colors[i] = random.nextInt(0x1000000);
+
+        // the few colours a selection cycles through, as the hex cache sees them
+        hexColors = new String[] {"#FF3333", "#33FF33", "#3333FF", "#FFFF33AA", "#CCCCCC"};
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public Material rgb() {
+        int color = colors[next++ & (COLORS - 1)];
+        return ColorMatcher.findClosestMaterial(color >> 16 & 0xFF, color >> 8 & 0xFF, color & 0xFF);
+    }
+
+    @Benchmark
+    public Material hex() {
+        return ColorMatcher.findClosestMaterial(hexColors[next++ % hexColors.length]);
+    }
+
+    /**
+     * Building the lookup cube, paid once at enable and on reload
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public void rebuild() {
+        ColorMatcher.refresh();
+    }
+}
@@ -0,0 +1,43 @@
+package dev.twme.worldeditdisplay.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.twme.worldeditdisplay.event.CUIMessage;
+
+/**
+ * Decoding of the CUI messages WorldEdit sends most, from a selection
+ * change to a long polyhedron face
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CuiMessageBenchmark {
+
+    @Param({
+            "s|cuboid",
+            "p|1|-1204|72|3381|4913",
+            "+p|0|12|64|-7|1",
+            "e|1|48.0|24.0|48.0",
+            "poly|0|1|2|3|4|5|6|7|8|9|10|11|12|13|14|15"
+    })
+    public String message;
+
+    @Benchmark
+    public CUIMessage parse() {
+        return CUIMessage.parse(message);
+    }
+}
@@ -0,0 +1,140 @@
+package dev.twme.worldeditdisplay.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import dev.twme.worldeditdisplay.display.geometry.CuboidGeometry;
+import dev.twme.worldeditdisplay.display.geometry.CylinderGeometry;
+import dev.twme.worldeditdisplay.display.geometry.EllipsoidGeometry;
+import dev.twme.worldeditdisplay.display.geometry.Line;
+import dev.twme.worldeditdisplay.display.geometry.PolygonGeometry;
+import dev.twme.worldeditdisplay.display.geometry.PolyhedronGeometry;
+import dev.twme.worldeditdisplay.display.geometry.SegmentSettings;
+import dev.twme.worldeditdisplay.region.Vector2;
+
+/**
+ * Line generation of each selection shape, with the default config.yml
+ * densities and sizes from a wand click to a large build selection.
+ * Pure geometry, no server involved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeometryBenchmark {
+
+    // grid densities and segment settings of the default config.yml
+    private static final int GRID_DIVISION = 10;
+    private static final int RADIUS_GRID_DIVISION = 5;
+    private static final int ELLIPSOID_GRID_DIVISION = 6;
+    private static final int UNLIMITED = -1;
+    private static final SegmentSettings CYLINDER_SEGMENTS = new SegmentSettings(0.5, 20, 50, 4.0);
+    private static final SegmentSettings ELLIPSOID_SEGMENTS = new SegmentSettings(0.5, 20, 40, 4.0);
+
+    /**
+     * Selection size in blocks; also the vertex count of polygons and
+     * polyhedron rings
+     */
+    @Param({"16", "64", "256"})
+    public int size;
+
+    private List<Vector2> polygon;
+    private List<Vector3f> polyhedronVertices;
+    private List<int[]> polyhedronFaces;
+
+    @Setup
+    public void setup() {
+        double radius = size / 2.0;
+
+        polygon = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double angle = i * Math.PI * 2 / size;
+            polygon.add(Vector2.at((int) Math.round(Math.cos(angle) * radius), (int) Math.round(Math.sin(angle) * radius)));
+        }
+
+        // bipyramid over a ring of size vertices, 2 * size triangular faces
+        polyhedronVertices = new ArrayList<>(size + 2);
+        polyhedronVertices.add(new Vector3f(0.5f, (float) radius + 0.5f, 0.5f));
+        polyhedronVertices.add(new Vector3f(0.5f, (float) -radius + 0.5f, 0.5f));
+        polyhedronFaces = new ArrayList<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            double angle = i * Math.PI * 2 / size;
+            polyhedronVertices.add(new Vector3f((float) (Math.cos(angle) * radius), 0.5f, (float) (Math.sin(angle) * radius)));
+            int a = i + 2;
+            int b = (i + 1) % size + 2;
+            polyhedronFaces.add(new int[] {0, a, b});
+            polyhedronFaces.add(new int[] {1, b, a});
+        }
+    }
+
+    @Benchmark
+    public List<Line> cuboidGrid() {
+        double height = size / 2.0;
+        double spacing = CuboidGeometry.gridSpacing(size, GRID_DIVISION, UNLIMITED);
+        double spacingY = CuboidGeometry.gridSpacing(height, GRID_DIVISION, UNLIMITED);
+        return CuboidGeometry.grid(0, 0, 0, size, height, size, spacing, spacingY, spacing);
+    }
+
+    @Benchmark
+    public void cylinder(Blackhole blackhole) {
+        double radius = size / 2.0;
+        int height = size / 2;
+        int segments = CylinderGeometry.circleSegments(radius, radius, CYLINDER_SEGMENTS);
+        int stepY = CylinderGeometry.gridStep(height, GRID_DIVISION, UNLIMITED);
+        for (int y = 0; y <= height; y += stepY) {
+            blackhole.consume(CylinderGeometry.circle(0.5, y, 0.5, radius, radius, segments));
+        }
+        int step = CylinderGeometry.radiusGridStep(radius, RADIUS_GRID_DIVISION, UNLIMITED);
+        blackhole.consume(CylinderGeometry.wallGrid(0.5, 0.5, radius, radius, 0, height, step, step));
+    }
+
+    @Benchmark
+    public void ellipsoid(Blackhole blackhole) {
+        float rx = size / 2f, ry = size / 4f, rz = size / 2f;
+        Vector3f center = new Vector3f(0.5f, 0.5f, 0.5f);
+        slices(blackhole, EllipsoidGeometry.Plane.XZ, center, rx, ry, rz, ry);
+        slices(blackhole, EllipsoidGeometry.Plane.YZ, center, rx, ry, rz, rx);
+        slices(blackhole, EllipsoidGeometry.Plane.XY, center, rx, ry, rz, rz);
+    }
+
+    private static void slices(Blackhole blackhole, EllipsoidGeometry.Plane plane, Vector3f center,
+                               float rx, float ry, float rz, float axisRadius) {
+        int step = EllipsoidGeometry.gridStep(axisRadius, ELLIPSOID_GRID_DIVISION, UNLIMITED);
+        for (int offset : EllipsoidGeometry.sliceOffsets(axisRadius, step)) {
+            blackhole.consume(EllipsoidGeometry.slice(plane, center, rx, ry, rz, offset, ELLIPSOID_SEGMENTS));
+        }
+        blackhole.consume(EllipsoidGeometry.slice(plane, center, rx, ry, rz, 0, ELLIPSOID_SEGMENTS));
+    }
+
+    @Benchmark
+    public void polygon(Blackhole blackhole) {
+        int maxY = size / 4;
+        int step = PolygonGeometry.gridStep(maxY + 1, GRID_DIVISION, UNLIMITED);
+        for (int y = 0; y <= maxY + 1; y += step) {
+            blackhole.consume(PolygonGeometry.outline(polygon, y));
+        }
+        blackhole.consume(PolygonGeometry.verticals(polygon, 0, maxY));
+    }
+
+    @Benchmark
+    public List<Line> polyhedron() {
+        return PolyhedronGeometry.edges(polyhedronVertices, polyhedronFaces);
+    }
+}
@@ -0,0 +1,87 @@
+package dev.twme.worldeditdisplay.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.config.PlayerRenderSettings;
+import dev.twme.worldeditdisplay.config.RenderSettings;
+import dev.twme.worldeditdisplay.config.ResolvedRenderSettings;
+import dev.twme.worldeditdisplay.harness.HeadlessServer;
+
+/**
+ * Resolving a player's overrides against the server defaults, done at the
+ * start of every render pass. Runs on the headless server for the loaded
+ * config.yml defaults.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RenderSettingsBenchmark {
+
+    private HeadlessServer server;
+    private WorldEditDisplay plugin;
+    private PlayerRenderSettings settings;
+
+    // two equal server settings to swap between, and the plugin's field they go into
+    private RenderSettings[] serverSettings;
+    private MethodHandle setServerSettings;
+    private int next;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        server = HeadlessServer.start();
+        plugin = server.getPlugin();
+        settings = new PlayerRenderSettings(plugin, UUID.randomUUID(), plugin.getPlayerSettingsManager().getStore());
+        settings.set("renderer.cuboid.edge_thickness", 0.05);
+        settings.set("renderer.ellipsoid.max_segments", 60);
+
+        serverSettings = new RenderSettings[] {
+                RenderSettings.load(plugin, plugin.getConfig()),
+                RenderSettings.load(plugin, plugin.getConfig())
+        };
+        // reloadRenderSettings() would also read config.yml; only the swap is wanted here
+        setServerSettings = MethodHandles.privateLookupIn(WorldEditDisplay.class, MethodHandles.lookup())
+                .findSetter(WorldEditDisplay.class, "renderSettings", RenderSettings.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    /**
+     * Every pass after the first: the cached snapshot
+     */
+    @Benchmark
+    public ResolvedRenderSettings cached() {
+        return settings.resolve();
+    }
+
+    /**
+     * First pass after a reload: new server settings invalidate the snapshot
+     * and the player's overrides are resolved against them again
+     */
+    @Benchmark
+    public ResolvedRenderSettings fresh() throws Throwable {
+        setServerSettings.invoke(plugin, serverSettings[next++ & 1]);
+        return settings.resolve();
+    }
+}
@@ -0,0 +1,236 @@
+package dev.twme.worldeditdisplay;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.logging.Level;
+
+import org.bukkit.plugin.java.JavaPlugin;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.event.PacketListenerPriority;
+
+import dev.twme.worldeditdisplay.command.CuiTraceCommand;
+import dev.twme.worldeditdisplay.command.LoadTestCommand;
+import dev.twme.worldeditdisplay.command.PlayerSettingsCommand;
+import dev.twme.worldeditdisplay.command.ReloadCommand;
+import dev.twme.worldeditdisplay.command.StorageMigrateCommand;
+import dev.twme.worldeditdisplay.common.ColorMatcher;
+import dev.twme.worldeditdisplay.config.PlayerSettingsManager;
+import dev.twme.worldeditdisplay.config.RenderSettings;
+import dev.twme.worldeditdisplay.display.RenderManager;
+import dev.twme.worldeditdisplay.lang.LanguageManager;
+import dev.twme.worldeditdisplay.listener.InboundPacketListener;
+import dev.twme.worldeditdisplay.listener.OutboundPacketListener;
+import dev.twme.worldeditdisplay.listener.PlayerJoinListener;
+import dev.twme.worldeditdisplay.listener.PlayerLocaleChangeListener;
+import dev.twme.worldeditdisplay.listener.PlayerPreLoginListener;
+import dev.twme.worldeditdisplay.listener.PlayerQuitListener;
+import dev.twme.worldeditdisplay.metrics.RenderMetrics;
+import dev.twme.worldeditdisplay.scheduler.TaskScheduler;
+import dev.twme.worldeditdisplay.region.RegionType;
+import dev.twme.worldeditdisplay.resourcepack.GridResourcePack;
+import dev.twme.worldeditdisplay.trace.CuiTraceManager;
+import dev.twme.worldeditdisplay.util.MessageUtil;
+import io.github.retrooper.packetevents.factory.spigot.SpigotPacketEventsBuilder;
+import me.tofaa.entitylib.APIConfig;
+import me.tofaa.entitylib.EntityLib;
+import me.tofaa.entitylib.spigot.SpigotEntityLibPlatform;
+
+public final class WorldEditDisplay extends JavaPlugin {
+    private static WorldEditDisplay plugin;
+    private RenderManager renderManager;
+    private volatile RenderSettings renderSettings;
+    private PlayerSettingsManager playerSettingsManager;
+    private LanguageManager languageManager;
+    private RenderMetrics renderMetrics;
+    private CuiTraceManager cuiTraceManager;
+    private TaskScheduler taskScheduler;
+    private GridResourcePack gridResourcePack;
+
+    @Override
+    public void onLoad() {
+        plugin = this;
+
+        // The headless test harness installs its own API before loading the plugin
+        if (PacketEvents.getAPI() == null) {
+            PacketEvents.setAPI(SpigotPacketEventsBuilder.build(this));
+            PacketEvents.getAPI().getSettings()
+                    .debug(false)
+                    .checkForUpdates(false);
+        }
+
+        if (!PacketEvents.getAPI().isLoaded()) {
+            PacketEvents.getAPI().load();
+        }
+    }
+
+    @Override
+    public void onEnable() {
+
+        PacketEvents.getAPI().init();
+
+        // Bukkit scheduler on Paper, region/entity schedulers on Folia
+        this.taskScheduler = TaskScheduler.create(this);
+
+        // Metrics first so the packet listeners can record from the start
+        this.renderMetrics = new RenderMetrics(this);
+        this.renderMetrics.register();
+        this.cuiTraceManager = new CuiTraceManager(this);
+
+        PacketEvents.getAPI().getEventManager().registerListener(new InboundPacketListener(), PacketListenerPriority.NORMAL);
+        PacketEvents.getAPI().getEventManager().registerListener(new OutboundPacketListener(), PacketListenerPriority.NORMAL);
+
+        // Selection displays are static and never registered with EntityLib,
+        // so nothing needs its tick loop
+        SpigotEntityLibPlatform platform = new SpigotEntityLibPlatform(this);
+        APIConfig settings = new APIConfig(PacketEvents.getAPI())
+                .usePlatformLogger();
+        EntityLib.init(platform, settings);
+        
+        // Load default configuration
+        saveDefaultConfig();
+        
+        // Initialize language manager
+        this.languageManager = new LanguageManager(this);
+        this.languageManager.initialize();
+        
+        // Initialize MessageUtil with plugin instance
+        MessageUtil.initialize(this);
+        
+        // Initialize render settings manager
+        this.renderSettings = RenderSettings.load(this, getConfig());
+        
+        // Build colour lookup table up front so CUI colour events never pay for it
+        ColorMatcher.initialize();
+        
+        // Initialize player settings manager
+        this.playerSettingsManager = new PlayerSettingsManager(this);
+        
+        // Cuboid face mode draws grids with models from a generated resource pack
+        loadGridResourcePack();
+
+        // Initialize managers
+        this.renderManager = new RenderManager(this);
+
+        getServer().getPluginManager().registerEvents(new PlayerPreLoginListener(this), this);
+        getServer().getPluginManager().registerEvents(new PlayerJoinListener(this), this);
+        getServer().getPluginManager().registerEvents(new PlayerQuitListener(this), this);
+        getServer().getPluginManager().registerEvents(new PlayerLocaleChangeListener(this), this);
+        
+        // Register commands
+        getCommand("wedisplayreload").setExecutor(new ReloadCommand(this));
+        getCommand("wedisplay").setExecutor(new PlayerSettingsCommand(this));
+        getCommand("wedisplaymigrate").setExecutor(new StorageMigrateCommand(this));
+        getCommand("wedisplaytrace").setExecutor(new CuiTraceCommand(this));
+        getCommand("wedisplayloadtest").setExecutor(new LoadTestCommand(this));
+        
+        getLogger().info("WorldEditDisplay enabled - Visualization rendering system ready");
+    }
+
+    @Override
+    public void onDisable() {
+        // Clean up all renders
+        if (renderManager != null) {
+            renderManager.shutdown();
+        }
+        
+        // Write any settings still waiting in the write-behind queue
+        if (playerSettingsManager != null) {
+            playerSettingsManager.shutdown();
+        }
+        
+        if (cuiTraceManager != null) {
+            cuiTraceManager.shutdown();
+        }
+        
+        if (renderMetrics != null) {
+            renderMetrics.unregister();
+        }
+        
+        if (taskScheduler != null) {
+            taskScheduler.cancelAll();
+        }
+        
+        getLogger().info("WorldEditDisplay disabled");
+    }
+
+    public static WorldEditDisplay getPlugin() {
+        return plugin;
+    }
+
+    public RenderManager getRenderManager() {
+        return renderManager;
+    }
+    
+    public RenderSettings getRenderSettings() {
+        return renderSettings;
+    }
+    
+    /**
+     * Reload config.yml and swap in a new RenderSettings in one step, along
+     * with the display setup, face mode pack and render scheduling settings.
+     * Players whose selections use a renderer with changed defaults are
+     * queued on the render scheduler.
+     */
+    public void reloadRenderSettings() {
+        reloadConfig();
+        loadGridResourcePack();
+        RenderSettings updated = RenderSettings.load(this, getConfig());
+        RenderSettings previous = renderSettings;
+        renderSettings = updated;
+        
+        Set<RegionType> affected = previous.diff(updated);
+        affected.addAll(renderManager.reloadRenderConfig());
+        if (!affected.isEmpty()) {
+            renderManager.rerenderAffected(affected);
+        }
+    }
+    
+    public PlayerSettingsManager getPlayerSettingsManager() {
+        return playerSettingsManager;
+    }
+    
+    public LanguageManager getLanguageManager() {
+        return languageManager;
+    }
+    
+    public CuiTraceManager getCuiTraceManager() {
+        return cuiTraceManager;
+    }
+
+    public TaskScheduler getTaskScheduler() {
+        return taskScheduler;
+    }
+
+    public RenderMetrics getRenderMetrics() {
+        return renderMetrics;
+    }
+
+    /**
+     * Generate the face mode pack when face mode is on, keeping the current
+     * one if its settings did not change
+     */
+    private void loadGridResourcePack() {
+        if (!getConfig().getBoolean("render.face_mode.enabled", false)) {
+            gridResourcePack = null;
+            return;
+        }
+
+        GridResourcePack pack = new GridResourcePack(this);
+        if (pack.hasSameSettings(gridResourcePack)) return;
+        try {
+            pack.generate();
+            gridResourcePack = pack;
+        } catch (IOException e) {
+            getLogger().log(Level.WARNING, "Failed to generate grid resource pack, face mode disabled", e);
+            gridResourcePack = null;
+        }
+    }
+
+    /**
+     * Pack with the cuboid face models, null unless face mode is on
+     */
+    public GridResourcePack getGridResourcePack() {
+        return gridResourcePack;
+    }
+}
@@ -0,0 +1,188 @@
+package dev.twme.worldeditdisplay.command;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabExecutor;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.trace.CuiTrace;
+import dev.twme.worldeditdisplay.trace.CuiTraceManager;
+import dev.twme.worldeditdisplay.trace.CuiTraceWriter;
+import dev.twme.worldeditdisplay.util.MessageUtil;
+
+/**
+ * Records players' CUI traffic to trace files and replays traces
+ */
+public class CuiTraceCommand implements TabExecutor {
+
+    private static final List<String> SUB_COMMANDS = List.of("start", "stop", "list", "replay");
+
+    private final WorldEditDisplay plugin;
+
+    public CuiTraceCommand(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command,
+                           @NotNull String label, @NotNull String[] args) {
+
+        if (!sender.hasPermission("worldeditdisplay.trace")) {
+            MessageUtil.sendTranslated(sender, "general.no_permission");
+            return true;
+        }
+
+        if (args.length == 0) {
+            MessageUtil.sendTranslated(sender, "command.wedisplaytrace.usage");
+            return true;
+        }
+
+        switch (args[0].toLowerCase()) {
+            case "start" -> handleStart(sender, args);
+            case "stop" -> handleStop(sender, args);
+            case "list" -> handleList(sender);
+            case "replay" -> handleReplay(sender, args);
+            default -> MessageUtil.sendTranslated(sender, "command.wedisplaytrace.usage");
+        }
+        return true;
+    }
+
+    private void handleStart(CommandSender sender, String[] args) {
+        Player target = resolveTarget(sender, args, 1);
+        if (target == null) return;
+
+        try {
+            Path file = plugin.getCuiTraceManager().startRecording(target);
+            if (file == null) {
+                MessageUtil.sendTranslated(sender, "command.wedisplaytrace.already_recording", target.getName());
+                return;
+            }
+            MessageUtil.sendTranslated(sender, "command.wedisplaytrace.started", target.getName(), file.getFileName().toString());
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to start CUI trace: " + e.getMessage());
+            MessageUtil.sendTranslated(sender, "command.wedisplaytrace.failed", e.getMessage());
+        }
+    }
+
+    private void handleStop(CommandSender sender, String[] args) {
+        Player target = resolveTarget(sender, args, 1);
+        if (target == null) return;
+
+        CuiTraceWriter writer = plugin.getCuiTraceManager().stopRecording(target.getUniqueId());
+        if (writer == null) {
+            MessageUtil.sendTranslated(sender, "command.wedisplaytrace.not_recording", target.getName());
+            return;
+        }
+        MessageUtil.sendTranslated(sender, "command.wedisplaytrace.stopped", writer.getMessages(), writer.getFile().getFileName().toString());
+    }
+
+    private void handleList(CommandSender sender) {
+        List<String> traces = plugin.getCuiTraceManager().listTraces();
+        if (traces.isEmpty()) {
+            MessageUtil.sendTranslated(sender, "command.wedisplaytrace.list_empty");
+            return;
+        }
+        MessageUtil.sendTranslated(sender, "command.wedisplaytrace.list", String.join(", ", traces));
+    }
+
+    private void handleReplay(CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            MessageUtil.sendTranslated(sender, "command.wedisplaytrace.usage");
+            return;
+        }
+
+        double speed = 1.0;
+        if (args.length >= 3) {
+            try {
+                speed = Double.parseDouble(args[2]);
+            } catch (NumberFormatException e) {
+                MessageUtil.sendTranslated(sender, "command.wedisplaytrace.invalid_speed", args[2]);
+                return;
+            }
+        }
+
+        Player target = resolveTarget(sender, args, 3);
+        if (target == null) return;
+
+        CuiTraceManager manager = plugin.getCuiTraceManager();
+        Path file = manager.resolveTrace(args[1]);
+        if (file == null || !Files.isRegularFile(file)) {
+            MessageUtil.sendTranslated(sender, "command.wedisplaytrace.not_found", args[1]);
+            return;
+        }
+
+        CuiTrace trace;
+        try {
+            trace = CuiTrace.read(file);
+        } catch (IOException e) {
+            MessageUtil.sendTranslated(sender, "command.wedisplaytrace.failed", e.getMessage());
+            return;
+        }
+
+        boolean started = manager.replay(target, trace, speed, result ->
+            MessageUtil.sendTranslated(sender, "command.wedisplaytrace.replay_done",
+                    result.messages(), result.elapsedMillis(), result.renders(),
+                    result.entities(), result.packets(), result.failures()));
+        if (!started) {
+            MessageUtil.sendTranslated(sender, "command.wedisplaytrace.replay_running", target.getName());
+            return;
+        }
+        MessageUtil.sendTranslated(sender, "command.wedisplaytrace.replay_started",
+                trace.entries().size(), trace.playerName(), target.getName(), speed);
+    }
+
+    /**
+     * The player named at args[index], or the sender when it is omitted
+     */
+    private Player resolveTarget(CommandSender sender, String[] args, int index) {
+        if (args.length > index) {
+            Player target = plugin.getServer().getPlayerExact(args[index]);
+            if (target == null) {
+                MessageUtil.sendTranslated(sender, "command.wedisplaytrace.player_not_found", args[index]);
+            }
+            return target;
+        }
+
+        if (sender instanceof Player player) {
+            return player;
+        }
+        MessageUtil.sendTranslated(sender, "general.player_only");
+        return null;
+    }
+
+    @Override
+    public List<String> onTabComplete(@NotNull CommandSender sender, @NotNull Command command,
+                                      @NotNull String alias, @NotNull String[] args) {
+        List<String> completions = new ArrayList<>();
+        if (!sender.hasPermission("worldeditdisplay.trace")) {
+            return completions;
+        }
+
+        String input = args[args.length - 1].toLowerCase();
+        if (args.length == 1) {
+            SUB_COMMANDS.stream().filter(sub -> sub.startsWith(input)).forEach(completions::add);
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("replay")) {
+            plugin.getCuiTraceManager().listTraces().stream()
+                    .filter(name -> name.toLowerCase().startsWith(input))
+                    .forEach(completions::add);
+        } else if (args.length == 3 && args[0].equalsIgnoreCase("replay")) {
+            for (String speed : List.of("1", "2", "10", "0")) {
+                if (speed.startsWith(input)) completions.add(speed);
+            }
+        } else if ((args.length == 2 && !args[0].equalsIgnoreCase("list"))
+                || (args.length == 4 && args[0].equalsIgnoreCase("replay"))) {
+            for (Player player : plugin.getServer().getOnlinePlayers()) {
+                if (player.getName().toLowerCase().startsWith(input)) completions.add(player.getName());
+            }
+        }
+        return completions;
+    }
+}
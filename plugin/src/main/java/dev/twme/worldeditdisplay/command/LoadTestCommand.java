@@ -0,0 +1,167 @@
+package dev.twme.worldeditdisplay.command;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabExecutor;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.display.renderer.RenderConfig;
+import dev.twme.worldeditdisplay.loadtest.LoadScenario;
+import dev.twme.worldeditdisplay.loadtest.LoadTest;
+import dev.twme.worldeditdisplay.util.MessageUtil;
+
+/**
+ * Runs a synthetic load test of the render pipeline with virtual players
+ */
+public class LoadTestCommand implements TabExecutor {
+
+    private static final int MAX_PLAYERS = 1000;
+    private static final int MAX_SECONDS = 600;
+    private static final double MAX_RATE = 100.0;
+
+    private final WorldEditDisplay plugin;
+    private volatile boolean running = false;
+
+    public LoadTestCommand(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command,
+                           @NotNull String label, @NotNull String[] args) {
+
+        if (!sender.hasPermission("worldeditdisplay.loadtest")) {
+            MessageUtil.sendTranslated(sender, "general.no_permission");
+            return true;
+        }
+
+        if (args.length < 2 || args.length > 5) {
+            MessageUtil.sendTranslated(sender, "command.wedisplayloadtest.usage");
+            return true;
+        }
+
+        int players;
+        int seconds;
+        double rate = 5.0;
+        try {
+            players = Integer.parseInt(args[0]);
+            seconds = Integer.parseInt(args[1]);
+            if (args.length >= 3) rate = Double.parseDouble(args[2]);
+        } catch (NumberFormatException e) {
+            MessageUtil.sendTranslated(sender, "command.wedisplayloadtest.usage");
+            return true;
+        }
+
+        if (players < 1 || players > MAX_PLAYERS || seconds < 1 || seconds > MAX_SECONDS || rate <= 0 || rate > MAX_RATE) {
+            MessageUtil.sendTranslated(sender, "command.wedisplayloadtest.out_of_range", MAX_PLAYERS, MAX_SECONDS, MAX_RATE);
+            return true;
+        }
+
+        LoadScenario scenario = LoadScenario.MIXED;
+        if (args.length >= 4) {
+            scenario = LoadScenario.fromKey(args[3]);
+            if (scenario == null) {
+                MessageUtil.sendTranslated(sender, "command.wedisplayloadtest.unknown_scenario", availableScenarios());
+                return true;
+            }
+        }
+
+        RenderConfig.Primitive primitive = null;
+        if (args.length == 5) {
+            primitive = RenderConfig.Primitive.fromKey(args[4]);
+            if (primitive == null) {
+                MessageUtil.sendTranslated(sender, "command.wedisplayloadtest.unknown_primitive", availablePrimitives());
+                return true;
+            }
+        }
+
+        // virtual players borrow the world and position of a real one
+        Player anchor = sender instanceof Player player ? player
+                : plugin.getServer().getOnlinePlayers().stream().findFirst().orElse(null);
+        if (anchor == null) {
+            MessageUtil.sendTranslated(sender, "command.wedisplayloadtest.no_anchor");
+            return true;
+        }
+
+        if (running) {
+            MessageUtil.sendTranslated(sender, "command.wedisplayloadtest.running");
+            return true;
+        }
+        running = true;
+
+        LoadTest.Options options = new LoadTest.Options(players, seconds, rate, scenario, primitive);
+        MessageUtil.sendTranslated(sender, "command.wedisplayloadtest.started", players, scenario.getKey(), rate, seconds);
+
+        new LoadTest(plugin, anchor, options).runAsync(result -> {
+            running = false;
+            MessageUtil.sendTranslated(sender, "command.wedisplayloadtest.result_throughput",
+                    result.messages(), result.elapsedMillis(), result.messagesPerSecond(), result.failures());
+            MessageUtil.sendTranslated(sender, "command.wedisplayloadtest.result_latency",
+                    result.p50Micros(), result.p95Micros(), result.p99Micros(), result.maxMicros());
+            MessageUtil.sendTranslated(sender, "command.wedisplayloadtest.result_output",
+                    result.renders(), result.entities(), result.packets(), result.bytes());
+            RenderConfig.Primitive used = options.primitive() != null ? options.primitive()
+                    : plugin.getRenderManager().getRenderConfig().getPrimitive();
+            MessageUtil.sendTranslated(sender, "command.wedisplayloadtest.result_primitive", used.getKey(),
+                    result.entities() > 0 ? (double) result.bytes() / result.entities() : 0.0);
+            MessageUtil.sendTranslated(sender, "command.wedisplayloadtest.result_allocation",
+                    result.allocatedBytesPerSecond() / (1024 * 1024));
+        }, e -> {
+            running = false;
+            MessageUtil.sendTranslated(sender, "command.wedisplayloadtest.failed", String.valueOf(e.getMessage()));
+        });
+        return true;
+    }
+
+    private String availableScenarios() {
+        List<String> keys = new ArrayList<>();
+        for (LoadScenario scenario : LoadScenario.values()) {
+            keys.add(scenario.getKey());
+        }
+        return String.join(", ", keys);
+    }
+
+    private String availablePrimitives() {
+        List<String> keys = new ArrayList<>();
+        for (RenderConfig.Primitive primitive : RenderConfig.Primitive.values()) {
+            keys.add(primitive.getKey());
+        }
+        return String.join(", ", keys);
+    }
+
+    @Override
+    public List<String> onTabComplete(@NotNull CommandSender sender, @NotNull Command command,
+                                      @NotNull String alias, @NotNull String[] args) {
+        List<String> completions = new ArrayList<>();
+        if (!sender.hasPermission("worldeditdisplay.loadtest")) {
+            return completions;
+        }
+
+        String input = args[args.length - 1].toLowerCase();
+        List<String> candidates = switch (args.length) {
+            case 1 -> List.of("10", "50", "100");
+            case 2 -> List.of("30", "60");
+            case 3 -> List.of("1", "5", "20");
+            case 4 -> {
+                List<String> keys = new ArrayList<>();
+                for (LoadScenario scenario : LoadScenario.values()) keys.add(scenario.getKey());
+                yield keys;
+            }
+            case 5 -> {
+                List<String> keys = new ArrayList<>();
+                for (RenderConfig.Primitive primitive : RenderConfig.Primitive.values()) keys.add(primitive.getKey());
+                yield keys;
+            }
+            default -> List.of();
+        };
+        for (String candidate : candidates) {
+            if (candidate.startsWith(input)) completions.add(candidate);
+        }
+        return completions;
+    }
+}
@@ -10,6 +10,9 @@ import org.jetbrains.annotations.NotNull;
 
 import dev.twme.worldeditdisplay.WorldEditDisplay;
 import dev.twme.worldeditdisplay.config.PlayerRenderSettings;
+import dev.twme.worldeditdisplay.metrics.LatencyHistogram;
+import dev.twme.worldeditdisplay.metrics.RenderMetrics;
+import dev.twme.worldeditdisplay.metrics.RenderPhase;
 import dev.twme.worldeditdisplay.player.PlayerData;
 import dev.twme.worldeditdisplay.util.MessageUtil;
 import org.jetbrains.annotations.Nullable;
@@ -17,6 +20,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +38,12 @@ public class PlayerSettingsCommand implements TabExecutor {
     public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command,
                              @NotNull String label, @NotNull String[] args) {
 
+        // stats is also available from the console
+        if (args.length > 0 && args[0].equalsIgnoreCase("stats")) {
+            handleStats(sender, args);
+            return true;
+        }
+
         if (!(sender instanceof Player)) {
             MessageUtil.sendTranslated(sender, "general.player_only");
             return true;
@@ -60,6 +70,7 @@ public class PlayerSettingsCommand implements TabExecutor {
             case "reloadplayer" -> handleReload(player);
             case "lang", "language" -> handleLanguage(player, args);
             case "toggle" -> handleToggle(player);
+            case "watch" -> handleWatch(player, args);
             default -> sendHelp(player);
         }
 
@@ -210,6 +221,76 @@ public class PlayerSettingsCommand implements TabExecutor {
         return true;
     }
 
+    private void handleWatch(Player player, String[] args) {
+        if (!player.hasPermission("worldeditdisplay.watch")) {
+            MessageUtil.sendTranslated(player, "general.no_permission");
+            return;
+        }
+
+        if (args.length < 2) {
+            UUID watched = plugin.getRenderManager().getWatchedPlayer(player.getUniqueId());
+            Player target = watched != null ? plugin.getServer().getPlayer(watched) : null;
+            if (target != null) MessageUtil.sendTranslated(player, "command.wedisplay.watch.current", target.getName());
+            MessageUtil.sendTranslated(player, "command.wedisplay.watch.usage");
+            return;
+        }
+
+        if (args[1].equalsIgnoreCase("off")) {
+            if (plugin.getRenderManager().unwatch(player.getUniqueId()) != null) {
+                MessageUtil.sendTranslated(player, "command.wedisplay.watch.stopped");
+            } else {
+                MessageUtil.sendTranslated(player, "command.wedisplay.watch.not_watching");
+            }
+            return;
+        }
+
+        Player target = plugin.getServer().getPlayerExact(args[1]);
+        if (target == null) {
+            MessageUtil.sendTranslated(player, "command.wedisplay.watch.player_not_found", args[1]);
+            return;
+        }
+        if (target.equals(player)) {
+            MessageUtil.sendTranslated(player, "command.wedisplay.watch.self");
+            return;
+        }
+
+        plugin.getRenderManager().watch(player, target);
+        MessageUtil.sendTranslated(player, "command.wedisplay.watch.started", target.getName());
+    }
+
+    private void handleStats(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("worldeditdisplay.stats")) {
+            MessageUtil.sendTranslated(sender, "general.no_permission");
+            return;
+        }
+
+        RenderMetrics metrics = plugin.getRenderMetrics();
+        if (args.length > 1 && args[1].equalsIgnoreCase("reset")) {
+            metrics.reset();
+            MessageUtil.sendTranslated(sender, "command.wedisplay.stats.reset");
+            return;
+        }
+
+        MessageUtil.sendTranslated(sender, "command.wedisplay.stats.title");
+        MessageUtil.sendTranslated(sender, "command.wedisplay.stats.renders",
+                metrics.getRendersCompleted(), metrics.getRendersSkipped(),
+                metrics.getRendersCoalesced(), metrics.getActiveRenders());
+        MessageUtil.sendTranslated(sender, "command.wedisplay.stats.entities",
+                metrics.getEntitiesSpawned(), metrics.getEntitiesDestroyed(), metrics.getEntitiesUpdated());
+        MessageUtil.sendTranslated(sender, "command.wedisplay.stats.packets",
+                metrics.getPacketsSent(), metrics.getBytesSent());
+        MessageUtil.sendTranslated(sender, "command.wedisplay.stats.cui",
+                metrics.getCuiMessages(), metrics.getCuiParseFailures());
+
+        for (RenderPhase phase : RenderPhase.values()) {
+            LatencyHistogram histogram = metrics.getPhase(phase);
+            MessageUtil.sendTranslated(sender, "command.wedisplay.stats.phase",
+                    phase.getKey(), histogram.getCount(), histogram.getMeanMicros(),
+                    histogram.getP50Micros(), histogram.getP95Micros(),
+                    histogram.getP99Micros(), histogram.getMaxMicros());
+        }
+    }
+
     // helpers
     private void showRendererSettings(Player player, String renderer, PlayerRenderSettings settings) {
         MessageUtil.sendTranslated(player, "command.wedisplay.show.renderer_title", renderer.toUpperCase());
@@ -288,6 +369,10 @@ public class PlayerSettingsCommand implements TabExecutor {
         MessageUtil.sendTranslated(player, "command.wedisplay.help.lang_desc");
         MessageUtil.sendTranslated(player, "command.wedisplay.help.toggle");
         MessageUtil.sendTranslated(player, "command.wedisplay.help.toggle_desc");
+        if (player.hasPermission("worldeditdisplay.watch")) {
+            MessageUtil.sendTranslated(player, "command.wedisplay.help.watch");
+            MessageUtil.sendTranslated(player, "command.wedisplay.help.watch_desc");
+        }
     }
 
     private boolean isValidRenderer(String renderer) {
@@ -312,7 +397,7 @@ public class PlayerSettingsCommand implements TabExecutor {
 
     // Tab Completion
     private static final List<String> SUB_COMMANDS = Arrays.asList(
-            "set", "reset", "show", "reloadplayer", "lang", "language", "toggle");
+            "set", "reset", "show", "reloadplayer", "lang", "language", "toggle", "watch");
 
     // second argument options
     private static final List<String> RENDERERS = Arrays.asList(
@@ -321,15 +406,26 @@ public class PlayerSettingsCommand implements TabExecutor {
     @Override
     public @Nullable List<String> onTabComplete(@NotNull CommandSender sender, @NotNull Command command,
                                                 @NotNull String alias, @NotNull String[] args) {
-        if (!(sender instanceof Player)) return null;
-
         List<String> completions = new ArrayList<>();
 
+        if (args.length == 1 && sender.hasPermission("worldeditdisplay.stats") && "stats".startsWith(args[0].toLowerCase())) {
+            completions.add("stats");
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("stats")) {
+            if (sender.hasPermission("worldeditdisplay.stats") && "reset".startsWith(args[1].toLowerCase())) {
+                completions.add("reset");
+            }
+            return completions;
+        }
+
+        if (!(sender instanceof Player)) return completions;
+
         if (args.length == 1) {
             // first arg: subcommand
-            completions = SUB_COMMANDS.stream()
+            SUB_COMMANDS.stream()
                     .filter(cmd -> cmd.startsWith(args[0].toLowerCase()))
-                    .collect(Collectors.toList());
+                    .forEach(completions::add);
 
         } else if (args.length == 2) {
             String subCommand = args[0].toLowerCase();
@@ -344,6 +440,14 @@ public class PlayerSettingsCommand implements TabExecutor {
                 completions = plugin.getLanguageManager().getAvailableLanguages().stream()
                         .filter(lang -> lang.startsWith(args[1].toLowerCase()))
                         .collect(Collectors.toList());
+            } else if (subCommand.equals("watch") && sender.hasPermission("worldeditdisplay.watch")) {
+                // second arg: player to watch or off
+                if ("off".startsWith(args[1].toLowerCase())) completions.add("off");
+                for (Player online : plugin.getServer().getOnlinePlayers()) {
+                    if (online != sender && online.getName().toLowerCase().startsWith(args[1].toLowerCase())) {
+                        completions.add(online.getName());
+                    }
+                }
             }
 
         } else if (args.length == 3) {
@@ -26,7 +26,7 @@ public class ReloadCommand implements CommandExecutor {
         }
         
         try {
-            plugin.getRenderSettings().reload();
+            plugin.reloadRenderSettings();
             plugin.getLanguageManager().reload();
             MessageUtil.sendTranslated(sender, "general.reload_success");
             return true;
@@ -0,0 +1,147 @@
+package dev.twme.worldeditdisplay.command;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabExecutor;
+import org.jetbrains.annotations.NotNull;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.config.PlayerSettingsManager;
+import dev.twme.worldeditdisplay.config.storage.PlayerSettingsStore;
+import dev.twme.worldeditdisplay.config.storage.StorageType;
+import dev.twme.worldeditdisplay.util.MessageUtil;
+
+/**
+ * Copies all stored player settings from one storage backend to another
+ */
+public class StorageMigrateCommand implements TabExecutor {
+
+    private final WorldEditDisplay plugin;
+    private volatile boolean running = false;
+
+    public StorageMigrateCommand(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command,
+                           @NotNull String label, @NotNull String[] args) {
+
+        if (!sender.hasPermission("worldeditdisplay.migrate")) {
+            MessageUtil.sendTranslated(sender, "general.no_permission");
+            return true;
+        }
+
+        if (args.length != 2) {
+            MessageUtil.sendTranslated(sender, "command.wedisplaymigrate.usage");
+            return true;
+        }
+
+        StorageType from = StorageType.fromKey(args[0]);
+        StorageType to = StorageType.fromKey(args[1]);
+        if (from == null || to == null) {
+            MessageUtil.sendTranslated(sender, "command.wedisplaymigrate.unknown_storage", availableTypes());
+            return true;
+        }
+
+        if (from == to) {
+            MessageUtil.sendTranslated(sender, "command.wedisplaymigrate.same_storage");
+            return true;
+        }
+
+        if (running) {
+            MessageUtil.sendTranslated(sender, "command.wedisplaymigrate.running");
+            return true;
+        }
+
+        // make sure the active store holds every pending change before copying
+        PlayerSettingsManager manager = plugin.getPlayerSettingsManager();
+        manager.flushAll();
+
+        running = true;
+        MessageUtil.sendTranslated(sender, "command.wedisplaymigrate.started", from.getKey(), to.getKey());
+
+        Runnable task = () -> {
+            try {
+                int count = migrate(manager.getStore(), from, to);
+                plugin.getTaskScheduler().runGlobal(() ->
+                    MessageUtil.sendTranslated(sender, "command.wedisplaymigrate.success", count, to.getKey()));
+            } catch (IOException e) {
+                plugin.getLogger().warning("Player settings migration failed: " + e.getMessage());
+                plugin.getTaskScheduler().runGlobal(() ->
+                    MessageUtil.sendTranslated(sender, "command.wedisplaymigrate.failed", e.getMessage()));
+            } finally {
+                running = false;
+            }
+        };
+
+        // the PDC backend can only be touched from the main thread
+        if (from == StorageType.PDC || to == StorageType.PDC) {
+            task.run();
+        } else {
+            plugin.getTaskScheduler().runAsync(task);
+        }
+        return true;
+    }
+
+    private int migrate(PlayerSettingsStore active, StorageType from, StorageType to) throws IOException {
+        PlayerSettingsStore source = null;
+        PlayerSettingsStore target = null;
+        try {
+            source = openStore(active, from);
+            target = openStore(active, to);
+
+            int count = 0;
+            for (UUID uuid : source.listPlayers()) {
+                Map<String, Object> values = source.load(uuid);
+                if (values.isEmpty()) continue;
+                target.save(uuid, values);
+                count++;
+            }
+            return count;
+        } finally {
+            // never close the store the plugin is still using
+            if (source != null && source != active) source.close();
+            if (target != null && target != active) target.close();
+        }
+    }
+
+    private PlayerSettingsStore openStore(PlayerSettingsStore active, StorageType type) throws IOException {
+        if (active.getType() == type) return active;
+
+        PlayerSettingsStore store = type.createStore(plugin);
+        store.open();
+        return store;
+    }
+
+    private String availableTypes() {
+        List<String> keys = new ArrayList<>();
+        for (StorageType type : StorageType.values()) {
+            keys.add(type.getKey());
+        }
+        return String.join(", ", keys);
+    }
+
+    @Override
+    public List<String> onTabComplete(@NotNull CommandSender sender, @NotNull Command command,
+                                      @NotNull String alias, @NotNull String[] args) {
+        List<String> completions = new ArrayList<>();
+        if (!sender.hasPermission("worldeditdisplay.migrate") || args.length > 2) {
+            return completions;
+        }
+
+        String input = args[args.length - 1].toLowerCase();
+        for (StorageType type : StorageType.values()) {
+            if (type.getKey().startsWith(input)) {
+                completions.add(type.getKey());
+            }
+        }
+        return completions;
+    }
+}
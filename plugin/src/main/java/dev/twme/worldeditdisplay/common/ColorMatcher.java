@@ -0,0 +1,198 @@
+package dev.twme.worldeditdisplay.common;
+
+import org.bukkit.Color;
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * tries to match a color to the closest block material
+ *
+ * Matching is done in CIELAB space against a quantized RGB lookup cube that is
+ * built once at plugin enable, so lookups on the CUI path are a single array read.
+ */
+public class ColorMatcher {
+
+    // bits kept per channel in the lookup cube (5 bits = 32 levels)
+    private static final int CUBE_BITS = 5;
+    private static final int CUBE_SIZE = 1 << CUBE_BITS;
+    private static final int CUBE_SHIFT = 8 - CUBE_BITS;
+
+    // hex strings seen in COLOUR events are few and repeat a lot
+    private static final int HEX_CACHE_LIMIT = 256;
+
+    private static final Map<Material, Color> MATERIAL_COLOR_CACHE = new HashMap<>();
+    private static final Map<String, Material> HEX_CACHE = new ConcurrentHashMap<>();
+
+    private static Material[] palette = new Material[0];
+    private static byte[] lookupCube = new byte[0];
+    private static volatile boolean initialized = false;
+
+    // init cache with colors for each material and build the lookup cube
+    public static synchronized void initialize() {
+        if (initialized) return;
+
+        for (Material material : Constants.COLOR_MATERIALS) {
+            try {
+                BlockData blockData = material.createBlockData();
+                MATERIAL_COLOR_CACHE.put(material, blockData.getMapColor());
+            } catch (Exception e) {
+                // fallback gray if can't get color
+                MATERIAL_COLOR_CACHE.put(material, Color.fromRGB(128, 128, 128));
+            }
+        }
+
+        buildLookupCube();
+        initialized = true;
+    }
+
+    // precompute the closest palette entry for every quantized rgb cell
+    private static void buildLookupCube() {
+        Material[] materials = Constants.COLOR_MATERIALS;
+        double[][] paletteLab = new double[materials.length][];
+        for (int i = 0; i < materials.length; i++) {
+            Color color = MATERIAL_COLOR_CACHE.get(materials[i]);
+            paletteLab[i] = toLab(color.getRed(), color.getGreen(), color.getBlue());
+        }
+
+        byte[] cube = new byte[CUBE_SIZE * CUBE_SIZE * CUBE_SIZE];
+        int half = 1 << (CUBE_SHIFT - 1);
+
+        for (int r = 0; r < CUBE_SIZE; r++) {
+            for (int g = 0; g < CUBE_SIZE; g++) {
+                for (int b = 0; b < CUBE_SIZE; b++) {
+                    // sample the center of each cell
+                    double[] lab = toLab((r << CUBE_SHIFT) + half, (g << CUBE_SHIFT) + half, (b << CUBE_SHIFT) + half);
+
+                    int closest = 0;
+                    double minDist = Double.MAX_VALUE;
+                    for (int i = 0; i < paletteLab.length; i++) {
+                        double dist = labDistanceSquared(lab, paletteLab[i]);
+                        if (dist < minDist) {
+                            minDist = dist;
+                            closest = i;
+                        }
+                    }
+                    cube[cubeIndex(r, g, b)] = (byte) closest;
+                }
+            }
+        }
+
+        palette = materials.clone();
+        lookupCube = cube;
+    }
+
+    private static int cubeIndex(int r, int g, int b) {
+        return (r << (CUBE_BITS * 2)) | (g << CUBE_BITS) | b;
+    }
+
+    // simple find closest with rgb + alpha (alpha ignored)
+    public static Material findClosestMaterial(int red, int green, int blue, int alpha) {
+        return findClosestMaterial(red, green, blue);
+    }
+
+    public static Material findClosestMaterial(int red, int green, int blue) {
+        if (!initialized) initialize();
+
+        int index = cubeIndex((red & 0xFF) >> CUBE_SHIFT, (green & 0xFF) >> CUBE_SHIFT, (blue & 0xFF) >> CUBE_SHIFT);
+        return palette[lookupCube[index] & 0xFF];
+    }
+
+    public static Material findClosestMaterial(Color targetColor) {
+        return findClosestMaterial(targetColor.getRed(), targetColor.getGreen(), targetColor.getBlue());
+    }
+
+    /**
+     * Match a CUI hex colour (#RRGGBB or #RRGGBBAA, leading # optional)
+     *
+     * @return closest material, or null if the string is not a valid colour
+     */
+    public static Material findClosestMaterial(String hexColor) {
+        if (hexColor == null) return null;
+
+        Material cached = HEX_CACHE.get(hexColor);
+        if (cached != null) return cached;
+
+        String hex = hexColor.startsWith("#") ? hexColor.substring(1) : hexColor;
+        if (hex.length() < 6) return null;
+
+        Material material;
+        try {
+            int r = Integer.parseInt(hex.substring(0, 2), 16);
+            int g = Integer.parseInt(hex.substring(2, 4), 16);
+            int b = Integer.parseInt(hex.substring(4, 6), 16);
+            material = findClosestMaterial(r, g, b);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        if (HEX_CACHE.size() >= HEX_CACHE_LIMIT) HEX_CACHE.clear();
+        HEX_CACHE.put(hexColor, material);
+        return material;
+    }
+
+    // srgb (0-255) -> CIELAB with D65 white point
+    private static double[] toLab(int red, int green, int blue) {
+        double r = toLinear(red / 255.0);
+        double g = toLinear(green / 255.0);
+        double b = toLinear(blue / 255.0);
+
+        double x = (r * 0.4124564 + g * 0.3575761 + b * 0.1804375) / 0.95047;
+        double y = (r * 0.2126729 + g * 0.7151522 + b * 0.0721750);
+        double z = (r * 0.0193339 + g * 0.1191920 + b * 0.9503041) / 1.08883;
+
+        double fx = labPivot(x);
+        double fy = labPivot(y);
+        double fz = labPivot(z);
+
+        return new double[] {116.0 * fy - 16.0, 500.0 * (fx - fy), 200.0 * (fy - fz)};
+    }
+
+    private static double toLinear(double channel) {
+        return channel <= 0.04045 ? channel / 12.92 : Math.pow((channel + 0.055) / 1.055, 2.4);
+    }
+
+    private static double labPivot(double value) {
+        return value > 0.008856 ? Math.cbrt(value) : (7.787 * value) + (16.0 / 116.0);
+    }
+
+    // squared CIE76 delta E, enough for picking the nearest entry
+    private static double labDistanceSquared(double[] lab1, double[] lab2) {
+        double dl = lab1[0] - lab2[0];
+        double da = lab1[1] - lab2[1];
+        double db = lab1[2] - lab2[2];
+        return dl * dl + da * da + db * db;
+    }
+
+    // keeps weighted distance for future use
+    @SuppressWarnings("unused")
+    private static double weightedColorDistance(Color c1, Color c2) {
+        int dr = c1.getRed() - c2.getRed();
+        int dg = c1.getGreen() - c2.getGreen();
+        int db = c1.getBlue() - c2.getBlue();
+        return Math.sqrt(0.3 * dr * dr + 0.59 * dg * dg + 0.11 * db * db);
+    }
+
+    // get cached color
+    public static Color getMaterialColor(Material material) {
+        if (!initialized) initialize();
+        return MATERIAL_COLOR_CACHE.get(material);
+    }
+
+    // return copy of all cached colors
+    public static Map<Material, Color> getAllMaterialColors() {
+        if (!initialized) initialize();
+        return new HashMap<>(MATERIAL_COLOR_CACHE);
+    }
+
+    // clear and rebuild cache
+    public static synchronized void refresh() {
+        MATERIAL_COLOR_CACHE.clear();
+        HEX_CACHE.clear();
+        initialized = false;
+        initialize();
+    }
+}
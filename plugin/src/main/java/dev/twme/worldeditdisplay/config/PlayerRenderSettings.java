@@ -0,0 +1,491 @@
+package dev.twme.worldeditdisplay.config;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.config.storage.PlayerSettingsStore;
+
+/**
+ * Stores per-player render settings.
+ * Falls back to server defaults when player-specific value is null.
+ *
+ * Changes apply in memory immediately and are written behind: the settings
+ * are marked dirty and PlayerSettingsManager flushes them asynchronously.
+ * Persistence goes through the configured PlayerSettingsStore.
+ */
+public class PlayerRenderSettings {
+
+    private final WorldEditDisplay plugin;
+    private final UUID playerUUID;
+    private final PlayerSettingsStore store;
+    private FileConfiguration config;
+    private volatile boolean loaded = false;
+
+    // resolved snapshot and the server settings it was built from
+    private volatile CachedSnapshot snapshot;
+
+    // write-behind state, guarded by this
+    private volatile boolean dirty = false;
+    private long version;
+    // last version written to the store, guarded by fileLock
+    private final Object fileLock = new Object();
+    private long savedVersion = -1;
+
+    // Player custom values (null = use server default)
+    private Material cuboidEdgeMaterial;
+    private Material cuboidPoint1Material;
+    private Material cuboidPoint2Material;
+    private Material cuboidGridMaterial;
+    private Float cuboidEdgeThickness;
+    private Float cuboidGridThickness;
+    private Float cuboidVertexMarkerSize;
+    private Integer cuboidHeightGridDivision;
+
+    // Cylinder
+    private Material cylinderCircleMaterial;
+    private Material cylinderGridMaterial;
+    private Material cylinderCenterMaterial;
+    private Material cylinderCenterLineMaterial;
+    private Float cylinderCircleThickness;
+    private Float cylinderGridThickness;
+    private Float cylinderCenterLineThickness;
+    private Float cylinderCenterThickness;
+    private Integer cylinderMinCircleSegments;
+    private Integer cylinderMaxCircleSegments;
+    private Double cylinderTargetSegmentLength;
+    private Integer cylinderHeightGridDivision;
+    private Integer cylinderRadiusGridDivision;
+
+    // Ellipsoid
+    private Material ellipsoidLineMaterial;
+    private Material ellipsoidCenterLineMaterial;
+    private Material ellipsoidCenterMaterial;
+    private Float ellipsoidLineThickness;
+    private Float ellipsoidCenterLineThickness;
+    private Float ellipsoidCenterMarkerSize;
+    private Float ellipsoidCenterThickness;
+    private Integer ellipsoidMinSegments;
+    private Integer ellipsoidMaxSegments;
+    private Double ellipsoidTargetSegmentLength;
+    private Integer ellipsoidRadiusGridDivision;
+
+    // Polygon
+    private Material polygonEdgeMaterial;
+    private Material polygonVertexMaterial;
+    private Material polygonVerticalMaterial;
+    private Float polygonEdgeThickness;
+    private Float polygonVerticalThickness;
+    private Integer polygonHeightGridDivision;
+
+    // Polyhedron
+    private Material polyhedronLineMaterial;
+    private Material polyhedronVertex0Material;
+    private Material polyhedronVertexMaterial;
+    private Float polyhedronLineThickness;
+    private Float polyhedronVertexSize;
+    private Float polyhedronVertexThickness;
+
+    /**
+     * Creates settings without touching the store; every value falls back to the
+     * server default until {@link #load()} has run.
+     */
+    public PlayerRenderSettings(WorldEditDisplay plugin, UUID playerUUID, PlayerSettingsStore store) {
+        this.plugin = plugin;
+        this.playerUUID = playerUUID;
+        this.store = store;
+        this.config = new YamlConfiguration();
+    }
+
+    /**
+     * Load settings from the store, flushing pending changes first.
+     * A failed read keeps what is in memory and leaves the settings
+     * unloaded, so nothing is written until a later read succeeds.
+     */
+    public synchronized void load() {
+        if (dirty) save();
+
+        Map<String, Object> stored;
+        try {
+            stored = store.load(playerUUID);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to load player settings " + playerUUID + ": " + e.getMessage());
+            return;
+        }
+
+        YamlConfiguration loadedConfig = new YamlConfiguration();
+        for (Map.Entry<String, Object> entry : stored.entrySet()) {
+            loadedConfig.set(entry.getKey(), entry.getValue());
+        }
+        // changes made before the first successful read go on top of the stored ones
+        boolean pending = !loaded && dirty;
+        if (pending) {
+            for (Map.Entry<String, Object> entry : snapshotValues().entrySet()) {
+                loadedConfig.set(entry.getKey(), entry.getValue());
+            }
+        }
+        config = loadedConfig;
+        loaded = true;
+        applyConfig();
+        if (pending) markDirty();
+    }
+
+    // re-read all override fields from the in-memory config
+    private void applyConfig() {
+        snapshot = null;
+        loadCuboidSettings(config.getConfigurationSection("renderer.cuboid"));
+        loadCylinderSettings(config.getConfigurationSection("renderer.cylinder"));
+        loadEllipsoidSettings(config.getConfigurationSection("renderer.ellipsoid"));
+        loadPolygonSettings(config.getConfigurationSection("renderer.polygon"));
+        loadPolyhedronSettings(config.getConfigurationSection("renderer.polyhedron"));
+    }
+
+    /** Whether the player's settings have been read from the store successfully */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // commands may arrive before the async preload finished; never write over unread data
+    private void ensureLoaded() {
+        if (!loaded) load();
+    }
+
+    /** Whether there are changes not yet written to the store */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /** Write pending changes to the store, if any */
+    public void flush() {
+        if (dirty) save();
+    }
+
+    /** Save settings to the store; skipped until they have been read, as a save replaces all stored overrides */
+    public void save() {
+        if (!loaded) return;
+
+        Map<String, Object> data;
+        long snapshotVersion;
+        synchronized (this) {
+            data = snapshotValues();
+            snapshotVersion = version;
+            dirty = false;
+        }
+
+        boolean failed = false;
+        synchronized (fileLock) {
+            // an async flush may race a newer one; never let an older snapshot win
+            if (snapshotVersion <= savedVersion) return;
+            try {
+                store.save(playerUUID, data);
+                savedVersion = snapshotVersion;
+            } catch (IOException e) {
+                plugin.getLogger().warning("Failed to save player settings " + playerUUID + ": " + e.getMessage());
+                failed = true;
+            }
+        }
+
+        // retry on the next flush
+        if (failed) {
+            synchronized (this) {
+                dirty = true;
+            }
+            PlayerSettingsManager manager = plugin.getPlayerSettingsManager();
+            if (manager != null) manager.markDirty(playerUUID);
+        }
+    }
+
+    // flat path -> value copy of the overrides, safe to hand to another thread
+    private Map<String, Object> snapshotValues() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : config.getValues(true).entrySet()) {
+            if (!(entry.getValue() instanceof ConfigurationSection)) {
+                values.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return values;
+    }
+
+    // record an in-memory change and hand it to the write-behind queue
+    private void markDirty() {
+        version++;
+        dirty = true;
+        PlayerSettingsManager manager = plugin.getPlayerSettingsManager();
+        if (manager != null) manager.markDirty(playerUUID);
+    }
+
+    private void loadCuboidSettings(ConfigurationSection section) {
+        if (section == null) section = new YamlConfiguration();
+        cuboidEdgeMaterial = getMaterial(section, "edge_material");
+        cuboidPoint1Material = getMaterial(section, "point1_material");
+        cuboidPoint2Material = getMaterial(section, "point2_material");
+        cuboidGridMaterial = getMaterial(section, "grid_material");
+        cuboidEdgeThickness = getFloat(section, "edge_thickness");
+        cuboidGridThickness = getFloat(section, "grid_thickness");
+        cuboidVertexMarkerSize = getFloat(section, "vertex_marker_size");
+        cuboidHeightGridDivision = getInt(section, "height_grid_division");
+    }
+
+    private void loadCylinderSettings(ConfigurationSection section) {
+        if (section == null) section = new YamlConfiguration();
+        cylinderCircleMaterial = getMaterial(section, "circle_material");
+        cylinderGridMaterial = getMaterial(section, "grid_material");
+        cylinderCenterMaterial = getMaterial(section, "center_material");
+        cylinderCenterLineMaterial = getMaterial(section, "center_line_material");
+        cylinderCircleThickness = getFloat(section, "circle_thickness");
+        cylinderGridThickness = getFloat(section, "grid_thickness");
+        cylinderCenterLineThickness = getFloat(section, "center_line_thickness");
+        cylinderCenterThickness = getFloat(section, "center_thickness");
+        cylinderMinCircleSegments = getInt(section, "min_circle_segments");
+        cylinderMaxCircleSegments = getInt(section, "max_circle_segments");
+        cylinderTargetSegmentLength = getDouble(section, "target_segment_length");
+        cylinderHeightGridDivision = getInt(section, "height_grid_division");
+        cylinderRadiusGridDivision = getInt(section, "radius_grid_division");
+    }
+
+    private void loadEllipsoidSettings(ConfigurationSection section) {
+        if (section == null) section = new YamlConfiguration();
+        ellipsoidLineMaterial = getMaterial(section, "line_material");
+        ellipsoidCenterLineMaterial = getMaterial(section, "center_line_material");
+        ellipsoidCenterMaterial = getMaterial(section, "center_material");
+        ellipsoidLineThickness = getFloat(section, "line_thickness");
+        ellipsoidCenterLineThickness = getFloat(section, "center_line_thickness");
+        ellipsoidCenterMarkerSize = getFloat(section, "center_marker_size");
+        ellipsoidCenterThickness = getFloat(section, "center_thickness");
+        ellipsoidMinSegments = getInt(section, "min_segments");
+        ellipsoidMaxSegments = getInt(section, "max_segments");
+        ellipsoidTargetSegmentLength = getDouble(section, "target_segment_length");
+        ellipsoidRadiusGridDivision = getInt(section, "radius_grid_division");
+    }
+
+    private void loadPolygonSettings(ConfigurationSection section) {
+        if (section == null) section = new YamlConfiguration();
+        polygonEdgeMaterial = getMaterial(section, "edge_material");
+        polygonVertexMaterial = getMaterial(section, "vertex_material");
+        polygonVerticalMaterial = getMaterial(section, "vertical_material");
+        polygonEdgeThickness = getFloat(section, "edge_thickness");
+        polygonVerticalThickness = getFloat(section, "vertical_thickness");
+        polygonHeightGridDivision = getInt(section, "height_grid_division");
+    }
+
+    private void loadPolyhedronSettings(ConfigurationSection section) {
+        if (section == null) section = new YamlConfiguration();
+        polyhedronLineMaterial = getMaterial(section, "line_material");
+        polyhedronVertex0Material = getMaterial(section, "vertex0_material");
+        polyhedronVertexMaterial = getMaterial(section, "vertex_material");
+        polyhedronLineThickness = getFloat(section, "line_thickness");
+        polyhedronVertexSize = getFloat(section, "vertex_size");
+        polyhedronVertexThickness = getFloat(section, "vertex_thickness");
+    }
+
+    private Material getMaterial(ConfigurationSection section, String key) {
+        String value = section.getString(key);
+        if (value == null) return null;
+        try { return Material.valueOf(value.toUpperCase()); }
+        catch (IllegalArgumentException e) { return null; }
+    }
+
+    private Float getFloat(ConfigurationSection section, String key) {
+        if (!section.contains(key)) return null;
+        return (float) section.getDouble(key);
+    }
+
+    private Integer getInt(ConfigurationSection section, String key) {
+        if (!section.contains(key)) return null;
+        return section.getInt(key);
+    }
+
+    private Double getDouble(ConfigurationSection section, String key) {
+        if (!section.contains(key)) return null;
+        return section.getDouble(key);
+    }
+
+    /** Set a value (validated). Returns true if successful. */
+    public synchronized boolean set(String path, Object value) {
+        ensureLoaded();
+        if (value instanceof Material) value = ((Material) value).name();
+        if (value instanceof String) {
+            try { Material.valueOf(((String) value).toUpperCase()); }
+            catch (IllegalArgumentException e) { return false; }
+        }
+
+        if (value instanceof Number && !validateNumericValue(path, ((Number) value).doubleValue())) return false;
+
+        config.set(path, value);
+        applyConfig();
+        markDirty();
+        return true;
+    }
+
+    private boolean validateNumericValue(String path, double value) {
+        RenderSettings serverSettings = plugin.getRenderSettings();
+        String key = path.substring(path.lastIndexOf('.') + 1);
+        if (key.contains("thickness"))
+            return value >= serverSettings.getThicknessMin() && value <= serverSettings.getThicknessMax();
+        if (key.contains("size") || key.contains("marker"))
+            return value >= serverSettings.getMarkerSizeMin() && value <= serverSettings.getMarkerSizeMax();
+        if (key.contains("segments"))
+            return value >= serverSettings.getSegmentsMin() && value <= serverSettings.getSegmentsMax();
+        if (key.contains("division"))
+            return value >= serverSettings.getGridDivisionMin() && value <= serverSettings.getGridDivisionMax();
+        if (key.contains("spacing"))
+            return value >= serverSettings.getGridSpacingMin() && value <= serverSettings.getGridSpacingMax();
+        if (key.equals("target_segment_length"))
+            return value >= serverSettings.getTargetSegmentLengthMin() && value <= serverSettings.getTargetSegmentLengthMax();
+        if (key.contains("scale_factor"))
+            return value >= serverSettings.getScaleFactorMin() && value <= serverSettings.getScaleFactorMax();
+        return true;
+    }
+
+    /** Reset a setting to server default */
+    public synchronized void reset(String path) { ensureLoaded(); config.set(path, null); applyConfig(); markDirty(); }
+
+    /** Reset all player settings */
+    public synchronized void resetAll() {
+        loaded = true;
+        config = new YamlConfiguration();
+        applyConfig();
+        markDirty();
+    }
+
+    /**
+     * Resolve overrides against the current server defaults into an immutable snapshot.
+     * Cached until the player's settings change or a reload swaps in new server settings.
+     */
+    public ResolvedRenderSettings resolve() {
+        RenderSettings server = plugin.getRenderSettings();
+        CachedSnapshot cached = snapshot;
+        if (cached != null && cached.server() == server) return cached.settings();
+
+        synchronized (this) {
+            ResolvedRenderSettings settings = new ResolvedRenderSettings(
+                // Cuboid
+                cuboidEdgeMaterial != null ? cuboidEdgeMaterial : server.getCuboidEdgeMaterial(),
+                cuboidPoint1Material != null ? cuboidPoint1Material : server.getCuboidPoint1Material(),
+                cuboidPoint2Material != null ? cuboidPoint2Material : server.getCuboidPoint2Material(),
+                cuboidGridMaterial != null ? cuboidGridMaterial : server.getCuboidGridMaterial(),
+                cuboidEdgeThickness != null ? cuboidEdgeThickness : server.getCuboidEdgeThickness(),
+                cuboidGridThickness != null ? cuboidGridThickness : server.getCuboidGridThickness(),
+                cuboidVertexMarkerSize != null ? cuboidVertexMarkerSize : server.getCuboidVertexMarkerSize(),
+                cuboidHeightGridDivision != null ? cuboidHeightGridDivision : server.getCuboidHeightGridDivision(),
+                server.getCuboidMaxGridSpacing(),
+                // Cylinder
+                cylinderCircleMaterial != null ? cylinderCircleMaterial : server.getCylinderCircleMaterial(),
+                cylinderGridMaterial != null ? cylinderGridMaterial : server.getCylinderGridMaterial(),
+                cylinderCenterMaterial != null ? cylinderCenterMaterial : server.getCylinderCenterMaterial(),
+                cylinderCenterLineMaterial != null ? cylinderCenterLineMaterial : server.getCylinderCenterLineMaterial(),
+                cylinderCircleThickness != null ? cylinderCircleThickness : server.getCylinderCircleThickness(),
+                cylinderGridThickness != null ? cylinderGridThickness : server.getCylinderGridThickness(),
+                cylinderCenterLineThickness != null ? cylinderCenterLineThickness : server.getCylinderCenterLineThickness(),
+                cylinderCenterThickness != null ? cylinderCenterThickness : server.getCylinderCenterThickness(),
+                cylinderMinCircleSegments != null ? cylinderMinCircleSegments : server.getCylinderMinCircleSegments(),
+                cylinderMaxCircleSegments != null ? cylinderMaxCircleSegments : server.getCylinderMaxCircleSegments(),
+                cylinderTargetSegmentLength != null ? cylinderTargetSegmentLength : server.getCylinderTargetSegmentLength(),
+                server.getCylinderSqrtScaleFactor(),
+                cylinderHeightGridDivision != null ? cylinderHeightGridDivision : server.getCylinderHeightGridDivision(),
+                cylinderRadiusGridDivision != null ? cylinderRadiusGridDivision : server.getCylinderRadiusGridDivision(),
+                server.getCylinderMaxGridSpacing(),
+                // Ellipsoid
+                ellipsoidLineMaterial != null ? ellipsoidLineMaterial : server.getEllipsoidLineMaterial(),
+                ellipsoidCenterLineMaterial != null ? ellipsoidCenterLineMaterial : server.getEllipsoidCenterLineMaterial(),
+                ellipsoidCenterMaterial != null ? ellipsoidCenterMaterial : server.getEllipsoidCenterMaterial(),
+                ellipsoidLineThickness != null ? ellipsoidLineThickness : server.getEllipsoidLineThickness(),
+                ellipsoidCenterLineThickness != null ? ellipsoidCenterLineThickness : server.getEllipsoidCenterLineThickness(),
+                ellipsoidCenterMarkerSize != null ? ellipsoidCenterMarkerSize : server.getEllipsoidCenterMarkerSize(),
+                ellipsoidCenterThickness != null ? ellipsoidCenterThickness : server.getEllipsoidCenterThickness(),
+                ellipsoidMinSegments != null ? ellipsoidMinSegments : server.getEllipsoidMinSegments(),
+                ellipsoidMaxSegments != null ? ellipsoidMaxSegments : server.getEllipsoidMaxSegments(),
+                ellipsoidTargetSegmentLength != null ? ellipsoidTargetSegmentLength : server.getEllipsoidTargetSegmentLength(),
+                server.getEllipsoidSqrtScaleFactor(),
+                ellipsoidRadiusGridDivision != null ? ellipsoidRadiusGridDivision : server.getEllipsoidRadiusGridDivision(),
+                server.getEllipsoidMaxGridSpacing(),
+                // Polygon
+                polygonEdgeMaterial != null ? polygonEdgeMaterial : server.getPolygonEdgeMaterial(),
+                polygonVertexMaterial != null ? polygonVertexMaterial : server.getPolygonVertexMaterial(),
+                polygonVerticalMaterial != null ? polygonVerticalMaterial : server.getPolygonVerticalMaterial(),
+                polygonEdgeThickness != null ? polygonEdgeThickness : server.getPolygonEdgeThickness(),
+                polygonVerticalThickness != null ? polygonVerticalThickness : server.getPolygonVerticalThickness(),
+                polygonHeightGridDivision != null ? polygonHeightGridDivision : server.getPolygonHeightGridDivision(),
+                server.getPolygonMaxGridSpacing(),
+                // Polyhedron
+                polyhedronLineMaterial != null ? polyhedronLineMaterial : server.getPolyhedronLineMaterial(),
+                polyhedronVertex0Material != null ? polyhedronVertex0Material : server.getPolyhedronVertex0Material(),
+                polyhedronVertexMaterial != null ? polyhedronVertexMaterial : server.getPolyhedronVertexMaterial(),
+                polyhedronLineThickness != null ? polyhedronLineThickness : server.getPolyhedronLineThickness(),
+                polyhedronVertexSize != null ? polyhedronVertexSize : server.getPolyhedronVertexSize(),
+                polyhedronVertexThickness != null ? polyhedronVertexThickness : server.getPolyhedronVertexThickness()
+            );
+            snapshot = new CachedSnapshot(server, settings);
+            return settings;
+        }
+    }
+
+    /** Cuboid Getters **/
+    public Material getCuboidEdgeMaterial() { return resolve().cuboidEdgeMaterial(); }
+    public Material getCuboidPoint1Material() { return resolve().cuboidPoint1Material(); }
+    public Material getCuboidPoint2Material() { return resolve().cuboidPoint2Material(); }
+    public Material getCuboidGridMaterial() { return resolve().cuboidGridMaterial(); }
+    public float getCuboidEdgeThickness() { return resolve().cuboidEdgeThickness(); }
+    public float getCuboidGridThickness() { return resolve().cuboidGridThickness(); }
+    public float getCuboidVertexMarkerSize() { return resolve().cuboidVertexMarkerSize(); }
+    public int getCuboidHeightGridDivision() { return resolve().cuboidHeightGridDivision(); }
+    public int getCuboidMaxGridSpacing() { return resolve().cuboidMaxGridSpacing(); }
+
+    /** Cylinder Getters **/
+    public Material getCylinderCircleMaterial() { return resolve().cylinderCircleMaterial(); }
+    public Material getCylinderGridMaterial() { return resolve().cylinderGridMaterial(); }
+    public Material getCylinderCenterMaterial() { return resolve().cylinderCenterMaterial(); }
+    public Material getCylinderCenterLineMaterial() { return resolve().cylinderCenterLineMaterial(); }
+    public float getCylinderCircleThickness() { return resolve().cylinderCircleThickness(); }
+    public float getCylinderGridThickness() { return resolve().cylinderGridThickness(); }
+    public float getCylinderCenterLineThickness() { return resolve().cylinderCenterLineThickness(); }
+    public float getCylinderCenterThickness() { return resolve().cylinderCenterThickness(); }
+    public int getCylinderMinCircleSegments() { return resolve().cylinderMinCircleSegments(); }
+    public int getCylinderMaxCircleSegments() { return resolve().cylinderMaxCircleSegments(); }
+    public double getCylinderTargetSegmentLength() { return resolve().cylinderTargetSegmentLength(); }
+    public double getCylinderSqrtScaleFactor() { return resolve().cylinderSqrtScaleFactor(); }
+    public int getCylinderHeightGridDivision() { return resolve().cylinderHeightGridDivision(); }
+    public int getCylinderRadiusGridDivision() { return resolve().cylinderRadiusGridDivision(); }
+    public int getCylinderMaxGridSpacing() { return resolve().cylinderMaxGridSpacing(); }
+
+    /** Ellipsoid Getters **/
+    public Material getEllipsoidLineMaterial() { return resolve().ellipsoidLineMaterial(); }
+    public Material getEllipsoidCenterLineMaterial() { return resolve().ellipsoidCenterLineMaterial(); }
+    public Material getEllipsoidCenterMaterial() { return resolve().ellipsoidCenterMaterial(); }
+    public float getEllipsoidLineThickness() { return resolve().ellipsoidLineThickness(); }
+    public float getEllipsoidCenterLineThickness() { return resolve().ellipsoidCenterLineThickness(); }
+    public float getEllipsoidCenterMarkerSize() { return resolve().ellipsoidCenterMarkerSize(); }
+    public float getEllipsoidCenterThickness() { return resolve().ellipsoidCenterThickness(); }
+    public int getEllipsoidMinSegments() { return resolve().ellipsoidMinSegments(); }
+    public int getEllipsoidMaxSegments() { return resolve().ellipsoidMaxSegments(); }
+    public double getEllipsoidTargetSegmentLength() { return resolve().ellipsoidTargetSegmentLength(); }
+    public double getEllipsoidSqrtScaleFactor() { return resolve().ellipsoidSqrtScaleFactor(); }
+    public int getEllipsoidRadiusGridDivision() { return resolve().ellipsoidRadiusGridDivision(); }
+    public int getEllipsoidMaxGridSpacing() { return resolve().ellipsoidMaxGridSpacing(); }
+
+    /** Polygon Getters **/
+    public Material getPolygonEdgeMaterial() { return resolve().polygonEdgeMaterial(); }
+    public Material getPolygonVertexMaterial() { return resolve().polygonVertexMaterial(); }
+    public Material getPolygonVerticalMaterial() { return resolve().polygonVerticalMaterial(); }
+    public float getPolygonEdgeThickness() { return resolve().polygonEdgeThickness(); }
+    public float getPolygonVerticalThickness() { return resolve().polygonVerticalThickness(); }
+    public int getPolygonHeightGridDivision() { return resolve().polygonHeightGridDivision(); }
+    public int getPolygonMaxGridSpacing() { return resolve().polygonMaxGridSpacing(); }
+
+    /** Polyhedron Getters **/
+    public Material getPolyhedronLineMaterial() { return resolve().polyhedronLineMaterial(); }
+    public Material getPolyhedronVertex0Material() { return resolve().polyhedronVertex0Material(); }
+    public Material getPolyhedronVertexMaterial() { return resolve().polyhedronVertexMaterial(); }
+    public float getPolyhedronLineThickness() { return resolve().polyhedronLineThickness(); }
+    public float getPolyhedronVertexSize() { return resolve().polyhedronVertexSize(); }
+    public float getPolyhedronVertexThickness() { return resolve().polyhedronVertexThickness(); }
+
+    public UUID getPlayerUUID() { return playerUUID; }
+
+    private record CachedSnapshot(RenderSettings server, ResolvedRenderSettings settings) {}
+}
@@ -0,0 +1,407 @@
+package dev.twme.worldeditdisplay.config;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.config.storage.PlayerSettingsStore;
+import dev.twme.worldeditdisplay.config.storage.StorageType;
+import dev.twme.worldeditdisplay.scheduler.TaskHandle;
+import dev.twme.worldeditdisplay.scheduler.TaskScheduler;
+import org.bukkit.entity.Player;
+
+/**
+ * 玩家設定管理器
+ *
+ * 負責管理所有玩家的個人渲染設定
+ * - 快取機制：在記憶體中快取玩家設定
+ * - 非同步預載：玩家登入前於非同步執行緒讀取設定檔，渲染期間不做磁碟 I/O
+ * - 延遲卸載：玩家離開後保留一段時間 (cache_ttl_seconds) 再從快取中移除
+ * - 延遲寫入：設定變更先套用於記憶體並標記為 dirty，定期合併後以非同步方式寫入磁碟
+ *   玩家離開與插件停用時會強制寫入
+ * - 儲存後端：由 player_settings.storage 選擇 (yaml, binary, sqlite, pdc)
+ * - 執行緒：非執行緒安全的後端（PDC）在玩家所屬的執行緒上存取，Folia 上為玩家所在區域的執行緒
+ */
+public class PlayerSettingsManager {
+
+    private static final long DEFAULT_CACHE_TTL_SECONDS = 300;
+    private static final long DEFAULT_SAVE_INTERVAL_TICKS = 40;
+    private static final long LOGIN_TIMEOUT_TICKS = 60 * 20L;
+
+    private final WorldEditDisplay plugin;
+    private final Map<UUID, PlayerRenderSettings> settingsCache;
+    private final Map<UUID, TaskHandle> pendingUnloads;
+    private final Set<UUID> dirtySettings;
+    private final PlayerSettingsStore store;
+    private final TaskHandle flushTask;
+
+    public PlayerSettingsManager(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+        this.settingsCache = new ConcurrentHashMap<>();
+        this.pendingUnloads = new ConcurrentHashMap<>();
+        this.dirtySettings = ConcurrentHashMap.newKeySet();
+        this.store = openStore();
+
+        long interval = Math.max(1, plugin.getConfig().getLong("player_settings.save_interval_ticks", DEFAULT_SAVE_INTERVAL_TICKS));
+        if (store.isThreadSafe()) {
+            this.flushTask = plugin.getTaskScheduler().runAsyncTimer(this::flushDirty, interval, interval);
+        } else {
+            this.flushTask = plugin.getTaskScheduler().runGlobalTimer(this::flushDirty, interval, interval);
+        }
+    }
+
+    /**
+     * 依設定開啟儲存後端，失敗時退回 YAML
+     *
+     * @return 已開啟的儲存後端
+     */
+    private PlayerSettingsStore openStore() {
+        String key = plugin.getConfig().getString("player_settings.storage", StorageType.YAML.getKey());
+        StorageType type = StorageType.fromKey(key);
+        if (type == null) {
+            plugin.getLogger().warning("Unknown player settings storage '" + key + "', falling back to yaml");
+            type = StorageType.YAML;
+        }
+
+        PlayerSettingsStore opened = type.createStore(plugin);
+        try {
+            opened.open();
+            return opened;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to open " + type.getKey() + " player settings storage, falling back to yaml: " + e.getMessage());
+        }
+
+        PlayerSettingsStore fallback = StorageType.YAML.createStore(plugin);
+        try {
+            fallback.open();
+        } catch (IOException e) {
+            plugin.getLogger().severe("Failed to open yaml player settings storage: " + e.getMessage());
+        }
+        return fallback;
+    }
+
+    /**
+     * 取得目前使用的儲存後端
+     *
+     * @return 儲存後端
+     */
+    public PlayerSettingsStore getStore() {
+        return store;
+    }
+
+    /**
+     * 在適合儲存後端的執行緒上執行任務
+     * 執行緒安全的後端使用非同步執行緒，其餘（PDC）使用玩家所屬的執行緒，玩家不在線時使用全域執行緒
+     *
+     * @param uuid 玩家 UUID
+     * @param task 任務
+     */
+    private void runStoreTask(UUID uuid, Runnable task) {
+        TaskScheduler scheduler = plugin.getTaskScheduler();
+        if (store.isThreadSafe()) {
+            scheduler.runAsync(task);
+            return;
+        }
+
+        Player player = plugin.getServer().getPlayer(uuid);
+        if (player == null || scheduler.runForEntity(player, task) == null) {
+            scheduler.runGlobal(task);
+        }
+    }
+
+    private PlayerRenderSettings createSettings(UUID uuid) {
+        return new PlayerRenderSettings(plugin, uuid, store);
+    }
+
+    /**
+     * 取得玩家的渲染設定
+     * 如果尚未載入，會排程非同步載入並先回傳使用伺服器預設值的設定
+     *
+     * @param player 玩家
+     * @return 玩家的渲染設定
+     */
+    public PlayerRenderSettings getSettings(Player player) {
+        return getSettings(player.getUniqueId());
+    }
+
+    /**
+     * 取得玩家的渲染設定
+     * 如果尚未載入，會排程非同步載入並先回傳使用伺服器預設值的設定
+     *
+     * @param uuid 玩家 UUID
+     * @return 玩家的渲染設定
+     */
+    public PlayerRenderSettings getSettings(UUID uuid) {
+        PlayerRenderSettings settings = settingsCache.get(uuid);
+        if (settings != null) {
+            return settings;
+        }
+
+        return preloadSettings(uuid);
+    }
+
+    /**
+     * 載入玩家設定到快取（同步）
+     * 應在非同步執行緒（例如 AsyncPlayerPreLoginEvent）中呼叫
+     * 若後端需要玩家在線（PDC），玩家尚未進入伺服器時只建立快取項目，等加入時再載入
+     *
+     * @param uuid 玩家 UUID
+     */
+    public void loadSettings(UUID uuid) {
+        cancelUnload(uuid);
+        PlayerRenderSettings settings = settingsCache.computeIfAbsent(uuid, this::createSettings);
+        if (store.requiresOnlinePlayer() && plugin.getServer().getPlayer(uuid) == null) {
+            return;
+        }
+        if (!settings.isLoaded()) {
+            settings.load();
+        }
+    }
+
+    /**
+     * 載入玩家設定到快取（同步）
+     *
+     * @param player 玩家
+     */
+    public void loadSettings(Player player) {
+        loadSettings(player.getUniqueId());
+    }
+
+    /**
+     * 在非同步執行緒預載玩家設定
+     * 載入完成前，快取中的設定會回傳伺服器預設值
+     *
+     * @param player 玩家
+     */
+    public void preloadSettings(Player player) {
+        preloadSettings(player.getUniqueId());
+    }
+
+    /**
+     * 在非同步執行緒預載玩家設定
+     * 載入完成前，快取中的設定會回傳伺服器預設值
+     *
+     * @param uuid 玩家 UUID
+     * @return 快取中的玩家設定（可能尚未載入完成）
+     */
+    public PlayerRenderSettings preloadSettings(UUID uuid) {
+        cancelUnload(uuid);
+        PlayerRenderSettings settings = settingsCache.computeIfAbsent(uuid, this::createSettings);
+        if (settings.isLoaded()) {
+            return settings;
+        }
+
+        runStoreTask(uuid, () -> {
+            if (!settings.isLoaded()) {
+                settings.load();
+            }
+        });
+        return settings;
+    }
+
+    /**
+     * 排程卸載玩家設定
+     * 玩家離開後保留 cache_ttl_seconds 秒，期間重新登入可直接沿用快取
+     *
+     * @param uuid 玩家 UUID
+     */
+    public void scheduleUnload(UUID uuid) {
+        long ttlSeconds = plugin.getConfig().getLong("player_settings.cache_ttl_seconds", DEFAULT_CACHE_TTL_SECONDS);
+        if (ttlSeconds <= 0) {
+            unloadSettings(uuid);
+            return;
+        }
+
+        TaskHandle task = plugin.getTaskScheduler().runGlobalLater(() -> {
+            pendingUnloads.remove(uuid);
+            if (plugin.getServer().getPlayer(uuid) == null) {
+                flushAsync(uuid);
+                settingsCache.remove(uuid);
+            }
+        }, ttlSeconds * 20L);
+
+        TaskHandle previous = pendingUnloads.put(uuid, task);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    /**
+     * 排程登入逾時卸載
+     * 於登入前預載後呼叫；若玩家在逾時前未完成加入，則從快取中移除
+     * 與 cache_ttl_seconds 無關，玩家加入時（預載設定）會取消此排程，之後由離開流程負責卸載
+     *
+     * @param uuid 玩家 UUID
+     */
+    public void scheduleLoginTimeout(UUID uuid) {
+        TaskHandle task = plugin.getTaskScheduler().runGlobalLater(() -> {
+            pendingUnloads.remove(uuid);
+            if (plugin.getServer().getPlayer(uuid) == null) {
+                flushAsync(uuid);
+                settingsCache.remove(uuid);
+            }
+        }, LOGIN_TIMEOUT_TICKS);
+
+        TaskHandle previous = pendingUnloads.put(uuid, task);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    /**
+     * 取消已排程的卸載
+     *
+     * @param uuid 玩家 UUID
+     */
+    private void cancelUnload(UUID uuid) {
+        TaskHandle task = pendingUnloads.remove(uuid);
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
+    /**
+     * 標記玩家設定有尚未寫入的變更
+     * 由 PlayerRenderSettings 在記憶體中修改後呼叫
+     *
+     * @param uuid 玩家 UUID
+     */
+    void markDirty(UUID uuid) {
+        dirtySettings.add(uuid);
+    }
+
+    /**
+     * 寫入所有 dirty 的玩家設定（由定期任務呼叫）
+     * 同一玩家在間隔內的多次變更只會寫入一次
+     * 區域多執行緒（Folia）下，非執行緒安全的後端改由各玩家所屬的執行緒寫入
+     */
+    private void flushDirty() {
+        boolean perPlayer = !store.isThreadSafe() && plugin.getTaskScheduler().isRegionThreaded();
+        for (UUID uuid : dirtySettings) {
+            dirtySettings.remove(uuid);
+            PlayerRenderSettings settings = settingsCache.get(uuid);
+            if (settings == null) {
+                continue;
+            }
+            if (perPlayer) {
+                runStoreTask(uuid, settings::flush);
+            } else {
+                settings.flush();
+            }
+        }
+    }
+
+    /**
+     * 以非同步方式立即寫入玩家設定（玩家離開時使用）
+     * 需要玩家在線的後端（PDC）會在目前執行緒直接寫入，以免玩家離線後無法存取
+     *
+     * @param uuid 玩家 UUID
+     */
+    public void flushAsync(UUID uuid) {
+        PlayerRenderSettings settings = settingsCache.get(uuid);
+        if (settings == null || !settings.isDirty()) {
+            return;
+        }
+
+        dirtySettings.remove(uuid);
+        if (store.requiresOnlinePlayer()) {
+            settings.flush();
+            return;
+        }
+        runStoreTask(uuid, settings::flush);
+    }
+
+    /**
+     * 同步寫入所有尚未儲存的設定（遷移儲存後端前使用）
+     */
+    public void flushAll() {
+        dirtySettings.clear();
+        for (PlayerRenderSettings settings : settingsCache.values()) {
+            settings.flush();
+        }
+    }
+
+    /**
+     * 同步寫入所有尚未儲存的設定並停止定期寫入任務
+     * 在插件停用時呼叫，此時已無法排程非同步任務
+     */
+    public void shutdown() {
+        flushTask.cancel();
+        pendingUnloads.values().forEach(TaskHandle::cancel);
+        pendingUnloads.clear();
+
+        flushAll();
+        store.close();
+    }
+
+    /**
+     * 卸載玩家設定（從快取中移除）
+     *
+     * @param player 玩家
+     */
+    public void unloadSettings(Player player) {
+        unloadSettings(player.getUniqueId());
+    }
+
+    /**
+     * 卸載玩家設定（從快取中移除）
+     *
+     * @param uuid 玩家 UUID
+     */
+    public void unloadSettings(UUID uuid) {
+        cancelUnload(uuid);
+        flushAsync(uuid);
+        settingsCache.remove(uuid);
+    }
+
+    /**
+     * 重新載入玩家設定
+     *
+     * @param player 玩家
+     */
+    public void reloadSettings(Player player) {
+        reloadSettings(player.getUniqueId());
+    }
+
+    /**
+     * 重新載入玩家設定
+     *
+     * @param uuid 玩家 UUID
+     */
+    public void reloadSettings(UUID uuid) {
+        PlayerRenderSettings settings = settingsCache.get(uuid);
+        if (settings != null) {
+            settings.load();
+        }
+    }
+
+    /**
+     * 重新載入所有玩家設定
+     */
+    public void reloadAllSettings() {
+        for (PlayerRenderSettings settings : settingsCache.values()) {
+            settings.load();
+        }
+    }
+
+    /**
+     * 清除所有快取
+     */
+    public void clearCache() {
+        pendingUnloads.values().forEach(TaskHandle::cancel);
+        pendingUnloads.clear();
+        settingsCache.clear();
+    }
+
+    /**
+     * 取得快取中的玩家數量
+     *
+     * @return 快取中的玩家數量
+     */
+    public int getCachedPlayerCount() {
+        return settingsCache.size();
+    }
+}
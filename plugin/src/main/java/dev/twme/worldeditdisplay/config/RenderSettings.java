@@ -1,6 +1,11 @@
 package dev.twme.worldeditdisplay.config;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.region.RegionType;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -9,7 +14,8 @@ import org.bukkit.configuration.file.FileConfiguration;
  * 渲染設定管理類
  * 
  * 負責從 config.yml 讀取和管理所有渲染器的配置參數
- * 支援熱重載 (reload)
+ * 建立後即不再修改：重新載入時會建立新的實例並整體替換 (copy-on-write)，
+ * 正在進行的渲染不會讀到新舊混合的設定
  */
 public class RenderSettings {
     
@@ -178,36 +184,46 @@ public class RenderSettings {
     }
     
     /**
-     * 從配置文件重新載入設定
+     * 從配置建立新的渲染設定
+     * 讀取失敗時回傳使用預設值的設定
+     * 
+     * @param plugin 插件實例
+     * @param config 配置
+     * @return 新的渲染設定
      */
-    public void reload() {
-        plugin.reloadConfig();
-        FileConfiguration config = plugin.getConfig();
-        
+    public static RenderSettings load(WorldEditDisplay plugin, FileConfiguration config) {
+        RenderSettings settings = new RenderSettings(plugin);
         try {
-            // 載入玩家設定限制
-            loadPlayerLimits(config.getConfigurationSection("player_limits"));
-            
-            // 載入 Cuboid 設定
-            loadCuboidSettings(config.getConfigurationSection("renderer.cuboid"));
-            
-            // 載入 Cylinder 設定
-            loadCylinderSettings(config.getConfigurationSection("renderer.cylinder"));
-            
-            // 載入 Ellipsoid 設定
-            loadEllipsoidSettings(config.getConfigurationSection("renderer.ellipsoid"));
-            
-            // 載入 Polygon 設定
-            loadPolygonSettings(config.getConfigurationSection("renderer.polygon"));
-            
-            // 載入 Polyhedron 設定
-            loadPolyhedronSettings(config.getConfigurationSection("renderer.polyhedron"));
-            
+            settings.apply(config);
+            return settings;
         } catch (Exception e) {
-            loadDefaults();
+            return new RenderSettings(plugin);
         }
     }
     
+    /**
+     * 將配置內容套用到尚未發布的實例
+     */
+    private void apply(FileConfiguration config) {
+        // 載入玩家設定限制
+        loadPlayerLimits(config.getConfigurationSection("player_limits"));
+        
+        // 載入 Cuboid 設定
+        loadCuboidSettings(config.getConfigurationSection("renderer.cuboid"));
+        
+        // 載入 Cylinder 設定
+        loadCylinderSettings(config.getConfigurationSection("renderer.cylinder"));
+        
+        // 載入 Ellipsoid 設定
+        loadEllipsoidSettings(config.getConfigurationSection("renderer.ellipsoid"));
+        
+        // 載入 Polygon 設定
+        loadPolygonSettings(config.getConfigurationSection("renderer.polygon"));
+        
+        // 載入 Polyhedron 設定
+        loadPolyhedronSettings(config.getConfigurationSection("renderer.polyhedron"));
+    }
+    
     /**
      * 載入玩家設定限制
      */
@@ -360,6 +376,51 @@ public class RenderSettings {
         polyhedronVertexThickness = (float) section.getDouble("vertex_thickness", polyhedronVertexThickness);
     }
     
+    /**
+     * 比較兩份設定，找出預設值有變動的渲染器類型
+     * 玩家設定限制的變動不影響現有渲染，不列入
+     * 
+     * @param other 另一份設定
+     * @return 受影響的選區類型
+     */
+    public Set<RegionType> diff(RenderSettings other) {
+        Set<RegionType> affected = EnumSet.noneOf(RegionType.class);
+        for (RegionType type : RegionType.values()) {
+            if (!getRendererValues(type).equals(other.getRendererValues(type))) {
+                affected.add(type);
+            }
+        }
+        return affected;
+    }
+    
+    /**
+     * 取得某渲染器類型使用的所有設定值
+     * 
+     * @param type 選區類型
+     * @return 設定值列表
+     */
+    private List<Object> getRendererValues(RegionType type) {
+        return switch (type) {
+            case CUBOID -> List.of(cuboidEdgeMaterial, cuboidPoint1Material, cuboidPoint2Material, cuboidGridMaterial,
+                    cuboidEdgeThickness, cuboidGridThickness, cuboidVertexMarkerSize, cuboidHeightGridDivision,
+                    cuboidMaxGridSpacing);
+            case CYLINDER -> List.of(cylinderCircleMaterial, cylinderGridMaterial, cylinderCenterMaterial,
+                    cylinderCenterLineMaterial, cylinderCircleThickness, cylinderGridThickness,
+                    cylinderCenterLineThickness, cylinderCenterThickness, cylinderMinCircleSegments,
+                    cylinderMaxCircleSegments, cylinderTargetSegmentLength, cylinderSqrtScaleFactor,
+                    cylinderHeightGridDivision, cylinderRadiusGridDivision, cylinderMaxGridSpacing);
+            case ELLIPSOID -> List.of(ellipsoidLineMaterial, ellipsoidCenterLineMaterial, ellipsoidCenterMaterial,
+                    ellipsoidLineThickness, ellipsoidCenterLineThickness, ellipsoidCenterMarkerSize,
+                    ellipsoidCenterThickness, ellipsoidMinSegments, ellipsoidMaxSegments,
+                    ellipsoidTargetSegmentLength, ellipsoidSqrtScaleFactor, ellipsoidRadiusGridDivision,
+                    ellipsoidMaxGridSpacing);
+            case POLYGON -> List.of(polygonEdgeMaterial, polygonVertexMaterial, polygonVerticalMaterial,
+                    polygonEdgeThickness, polygonVerticalThickness, polygonHeightGridDivision, polygonMaxGridSpacing);
+            case POLYHEDRON -> List.of(polyhedronLineMaterial, polyhedronVertex0Material, polyhedronVertexMaterial,
+                    polyhedronLineThickness, polyhedronVertexSize, polyhedronVertexThickness);
+        };
+    }
+    
     /**
      * 從配置中讀取 Material
      * 
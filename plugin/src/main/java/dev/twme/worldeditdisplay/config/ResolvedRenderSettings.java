@@ -0,0 +1,96 @@
+package dev.twme.worldeditdisplay.config;
+
+import java.lang.reflect.RecordComponent;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import dev.twme.worldeditdisplay.region.RegionType;
+import org.bukkit.Material;
+
+/**
+ * 已解析的渲染設定快照
+ *
+ * 將玩家個人設定與伺服器預設值合併後的不可變結果，欄位皆為最終值，
+ * 渲染器在內層迴圈中直接讀取，不再逐次判斷 null 與回退。
+ * 由 {@link PlayerRenderSettings#resolve()} 建立，只在玩家設定或伺服器設定變更時重建；
+ * 作為 record 亦可直接當作幾何快取的鍵值。
+ */
+public record ResolvedRenderSettings(
+        // Cuboid
+        Material cuboidEdgeMaterial,
+        Material cuboidPoint1Material,
+        Material cuboidPoint2Material,
+        Material cuboidGridMaterial,
+        float cuboidEdgeThickness,
+        float cuboidGridThickness,
+        float cuboidVertexMarkerSize,
+        int cuboidHeightGridDivision,
+        int cuboidMaxGridSpacing,
+        // Cylinder
+        Material cylinderCircleMaterial,
+        Material cylinderGridMaterial,
+        Material cylinderCenterMaterial,
+        Material cylinderCenterLineMaterial,
+        float cylinderCircleThickness,
+        float cylinderGridThickness,
+        float cylinderCenterLineThickness,
+        float cylinderCenterThickness,
+        int cylinderMinCircleSegments,
+        int cylinderMaxCircleSegments,
+        double cylinderTargetSegmentLength,
+        double cylinderSqrtScaleFactor,
+        int cylinderHeightGridDivision,
+        int cylinderRadiusGridDivision,
+        int cylinderMaxGridSpacing,
+        // Ellipsoid
+        Material ellipsoidLineMaterial,
+        Material ellipsoidCenterLineMaterial,
+        Material ellipsoidCenterMaterial,
+        float ellipsoidLineThickness,
+        float ellipsoidCenterLineThickness,
+        float ellipsoidCenterMarkerSize,
+        float ellipsoidCenterThickness,
+        int ellipsoidMinSegments,
+        int ellipsoidMaxSegments,
+        double ellipsoidTargetSegmentLength,
+        double ellipsoidSqrtScaleFactor,
+        int ellipsoidRadiusGridDivision,
+        int ellipsoidMaxGridSpacing,
+        // Polygon
+        Material polygonEdgeMaterial,
+        Material polygonVertexMaterial,
+        Material polygonVerticalMaterial,
+        float polygonEdgeThickness,
+        float polygonVerticalThickness,
+        int polygonHeightGridDivision,
+        int polygonMaxGridSpacing,
+        // Polyhedron
+        Material polyhedronLineMaterial,
+        Material polyhedronVertex0Material,
+        Material polyhedronVertexMaterial,
+        float polyhedronLineThickness,
+        float polyhedronVertexSize,
+        float polyhedronVertexThickness
+) {
+
+    /**
+     * 取得指定選區類型使用的設定值（欄位名稱 -> 值）
+     * 以反射讀取，只應用於診斷輸出，不可在渲染迴圈中呼叫
+     *
+     * @param type 選區類型
+     * @return 依宣告順序排列的設定值
+     */
+    public Map<String, Object> valuesFor(RegionType type) {
+        String prefix = type == RegionType.POLYGON ? "polygon" : type.getKey();
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (RecordComponent component : ResolvedRenderSettings.class.getRecordComponents()) {
+            if (!component.getName().startsWith(prefix)) continue;
+            try {
+                values.put(component.getName(), component.getAccessor().invoke(this));
+            } catch (ReflectiveOperationException e) {
+                values.put(component.getName(), "?");
+            }
+        }
+        return values;
+    }
+}
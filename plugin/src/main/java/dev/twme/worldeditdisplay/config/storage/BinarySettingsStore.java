@@ -0,0 +1,196 @@
+package dev.twme.worldeditdisplay.config.storage;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+
+/**
+ * All players in a single append-only file (player_settings.dat).
+ *
+ * Every save appends a record; an in-memory index maps each player to the
+ * offset of their latest record, so a load is one seek and one read.
+ * The file is compacted once superseded records outweigh live ones.
+ *
+ * Record layout: uuid (2 longs), payload length, SettingsCodec payload.
+ * A zero length record is a tombstone.
+ */
+public class BinarySettingsStore implements PlayerSettingsStore {
+
+    private static final int MAGIC = 0x57454453; // "WEDS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 20;
+    private static final int MAX_RECORD_SIZE = 1 << 20;
+    private static final long MIN_COMPACT_SIZE = 64 * 1024;
+
+    private final WorldEditDisplay plugin;
+    private final File file;
+    private final Map<UUID, Long> offsets = new HashMap<>();
+    private final Map<UUID, Integer> lengths = new HashMap<>();
+    private RandomAccessFile data;
+    private long liveBytes;
+
+    public BinarySettingsStore(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+        this.file = new File(plugin.getDataFolder(), "player_settings.dat");
+    }
+
+    @Override
+    public synchronized void open() throws IOException {
+        if (!file.exists()) {
+            file.getParentFile().mkdirs();
+            try (RandomAccessFile created = new RandomAccessFile(file, "rw")) {
+                created.writeInt(MAGIC);
+                created.writeInt(FORMAT_VERSION);
+            }
+        }
+
+        long validEnd = buildIndex();
+        data = new RandomAccessFile(file, "rw");
+        if (data.length() > validEnd) {
+            // drop a torn record left by a crash mid-write
+            plugin.getLogger().warning("Truncating incomplete record at the end of " + file.getName());
+            data.setLength(validEnd);
+        }
+
+        compactIfNeeded();
+    }
+
+    // scan the log once, keeping the latest record of every player
+    private long buildIndex() throws IOException {
+        offsets.clear();
+        lengths.clear();
+        liveBytes = 0;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException(file.getName() + " is not a settings file");
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) throw new IOException("Unsupported settings file version " + version);
+
+            long position = HEADER_SIZE;
+            while (true) {
+                UUID uuid;
+                int length;
+                try {
+                    uuid = new UUID(in.readLong(), in.readLong());
+                    length = in.readInt();
+                    if (length < 0 || length > MAX_RECORD_SIZE) return position;
+                    in.readFully(new byte[length]);
+                } catch (EOFException e) {
+                    return position;
+                }
+
+                index(uuid, position, length);
+                position += RECORD_HEADER_SIZE + length;
+            }
+        }
+    }
+
+    private void index(UUID uuid, long offset, int length) {
+        Integer previous = lengths.remove(uuid);
+        offsets.remove(uuid);
+        if (previous != null) liveBytes -= RECORD_HEADER_SIZE + previous;
+
+        if (length > 0) {
+            offsets.put(uuid, offset);
+            lengths.put(uuid, length);
+            liveBytes += RECORD_HEADER_SIZE + length;
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Object> load(UUID uuid) throws IOException {
+        Long offset = offsets.get(uuid);
+        if (offset == null) return new LinkedHashMap<>();
+
+        byte[] payload = new byte[lengths.get(uuid)];
+        data.seek(offset + RECORD_HEADER_SIZE);
+        data.readFully(payload);
+        return SettingsCodec.decode(payload);
+    }
+
+    @Override
+    public synchronized void save(UUID uuid, Map<String, Object> values) throws IOException {
+        if (values.isEmpty() && !offsets.containsKey(uuid)) return;
+
+        byte[] payload = values.isEmpty() ? new byte[0] : SettingsCodec.encode(values);
+        long offset = data.length();
+        data.seek(offset);
+        data.writeLong(uuid.getMostSignificantBits());
+        data.writeLong(uuid.getLeastSignificantBits());
+        data.writeInt(payload.length);
+        data.write(payload);
+
+        index(uuid, offset, payload.length);
+        compactIfNeeded();
+    }
+
+    // rewrite the file with only the latest record per player
+    private void compactIfNeeded() throws IOException {
+        long size = data.length();
+        if (size < MIN_COMPACT_SIZE || size - HEADER_SIZE < liveBytes * 2) return;
+
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        Map<UUID, Long> newOffsets = new HashMap<>();
+
+        try (RandomAccessFile out = new RandomAccessFile(temp, "rw")) {
+            out.setLength(0);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+
+            for (Map.Entry<UUID, Long> entry : offsets.entrySet()) {
+                int length = lengths.get(entry.getKey());
+                byte[] record = new byte[RECORD_HEADER_SIZE + length];
+                data.seek(entry.getValue());
+                data.readFully(record);
+
+                newOffsets.put(entry.getKey(), out.getFilePointer());
+                out.write(record);
+            }
+            out.getFD().sync();
+        }
+
+        data.close();
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        data = new RandomAccessFile(file, "rw");
+
+        offsets.clear();
+        offsets.putAll(newOffsets);
+        plugin.getLogger().fine("Compacted " + file.getName() + " from " + size + " to " + data.length() + " bytes");
+    }
+
+    @Override
+    public synchronized Set<UUID> listPlayers() {
+        return new HashSet<>(offsets.keySet());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (data == null) return;
+        try {
+            data.close();
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to close " + file.getName() + ": " + e.getMessage());
+        }
+        data = null;
+    }
+
+    @Override
+    public StorageType getType() {
+        return StorageType.BINARY;
+    }
+}
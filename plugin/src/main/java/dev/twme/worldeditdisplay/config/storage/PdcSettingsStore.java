@@ -0,0 +1,90 @@
+package dev.twme.worldeditdisplay.config.storage;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+
+/**
+ * Stores overrides in the player's own PersistentDataContainer.
+ *
+ * Data travels with the player file, so nothing extra is kept on disk,
+ * but it can only be read or written while the player is online and
+ * on the main thread.
+ */
+public class PdcSettingsStore implements PlayerSettingsStore {
+
+    private final WorldEditDisplay plugin;
+    private final NamespacedKey key;
+
+    public PdcSettingsStore(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+        this.key = new NamespacedKey(plugin, "render_settings");
+    }
+
+    @Override
+    public void open() {
+    }
+
+    @Override
+    public Map<String, Object> load(UUID uuid) throws IOException {
+        Player player = plugin.getServer().getPlayer(uuid);
+        if (player == null) return new LinkedHashMap<>();
+
+        byte[] data = player.getPersistentDataContainer().get(key, PersistentDataType.BYTE_ARRAY);
+        return SettingsCodec.decode(data);
+    }
+
+    @Override
+    public void save(UUID uuid, Map<String, Object> values) throws IOException {
+        Player player = plugin.getServer().getPlayer(uuid);
+        if (player == null) throw new IOException("Player " + uuid + " is offline");
+
+        PersistentDataContainer container = player.getPersistentDataContainer();
+        if (values.isEmpty()) {
+            container.remove(key);
+        } else {
+            container.set(key, PersistentDataType.BYTE_ARRAY, SettingsCodec.encode(values));
+        }
+    }
+
+    // offline players' containers are not reachable; only online players can be migrated
+    @Override
+    public Set<UUID> listPlayers() {
+        Set<UUID> players = new HashSet<>();
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            if (player.getPersistentDataContainer().has(key, PersistentDataType.BYTE_ARRAY)) {
+                players.add(player.getUniqueId());
+            }
+        }
+        return players;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public StorageType getType() {
+        return StorageType.PDC;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
+    @Override
+    public boolean requiresOnlinePlayer() {
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+package dev.twme.worldeditdisplay.config.storage;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Storage backend for per-player render setting overrides.
+ *
+ * Overrides are exchanged as a flat map of config paths to values,
+ * e.g. {@code renderer.cuboid.edge_material -> "GOLD_BLOCK"}.
+ * Values are Strings, Integers or Doubles.
+ */
+public interface PlayerSettingsStore {
+
+    /**
+     * Open the backend (create files, tables, indexes...)
+     */
+    void open() throws IOException;
+
+    /**
+     * Load a player's overrides
+     *
+     * @return overrides, empty if the player has none
+     */
+    Map<String, Object> load(UUID uuid) throws IOException;
+
+    /**
+     * Replace a player's overrides; an empty map removes the player's entry
+     */
+    void save(UUID uuid, Map<String, Object> values) throws IOException;
+
+    /**
+     * All players that currently have stored overrides (used for migration)
+     */
+    Set<UUID> listPlayers() throws IOException;
+
+    /**
+     * Release files and connections
+     */
+    void close();
+
+    /**
+     * Get the storage type of this backend
+     */
+    StorageType getType();
+
+    /**
+     * Whether load/save may be called off the main thread
+     */
+    default boolean isThreadSafe() {
+        return true;
+    }
+
+    /**
+     * Whether a player must be online for load/save to work
+     */
+    default boolean requiresOnlinePlayer() {
+        return false;
+    }
+}
@@ -0,0 +1,72 @@
+package dev.twme.worldeditdisplay.config.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of a flat settings map.
+ *
+ * Layout: entry count, then per entry the UTF key, a type tag and the value.
+ * Shared by the binary, SQLite and PDC backends.
+ */
+public final class SettingsCodec {
+
+    private static final byte TYPE_STRING = 0;
+    private static final byte TYPE_INT = 1;
+    private static final byte TYPE_DOUBLE = 2;
+
+    private SettingsCodec() {
+    }
+
+    public static byte[] encode(Map<String, Object> values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + values.size() * 32);
+        DataOutputStream out = new DataOutputStream(bytes);
+        write(out, values);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    public static Map<String, Object> decode(byte[] data) throws IOException {
+        if (data == null || data.length == 0) return new LinkedHashMap<>();
+        return read(new DataInputStream(new ByteArrayInputStream(data)));
+    }
+
+    public static void write(DataOutputStream out, Map<String, Object> values) throws IOException {
+        out.writeShort(values.size());
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            out.writeUTF(entry.getKey());
+            Object value = entry.getValue();
+            if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+                out.writeByte(TYPE_INT);
+                out.writeInt(((Number) value).intValue());
+            } else if (value instanceof Number) {
+                out.writeByte(TYPE_DOUBLE);
+                out.writeDouble(((Number) value).doubleValue());
+            } else {
+                out.writeByte(TYPE_STRING);
+                out.writeUTF(String.valueOf(value));
+            }
+        }
+    }
+
+    public static Map<String, Object> read(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        Map<String, Object> values = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            String key = in.readUTF();
+            byte type = in.readByte();
+            switch (type) {
+                case TYPE_INT -> values.put(key, in.readInt());
+                case TYPE_DOUBLE -> values.put(key, in.readDouble());
+                case TYPE_STRING -> values.put(key, in.readUTF());
+                default -> throw new IOException("Unknown value type " + type + " for " + key);
+            }
+        }
+        return values;
+    }
+}
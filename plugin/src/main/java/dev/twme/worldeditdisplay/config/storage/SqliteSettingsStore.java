@@ -0,0 +1,120 @@
+package dev.twme.worldeditdisplay.config.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+
+/**
+ * Embedded SQLite database (player_settings.db), one row per player keyed by UUID.
+ *
+ * Uses the SQLite JDBC driver bundled with the server; overrides are stored
+ * as a SettingsCodec blob so a load is a single primary key lookup.
+ */
+public class SqliteSettingsStore implements PlayerSettingsStore {
+
+    private final WorldEditDisplay plugin;
+    private final File file;
+    private Connection connection;
+
+    public SqliteSettingsStore(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+        this.file = new File(plugin.getDataFolder(), "player_settings.db");
+    }
+
+    @Override
+    public synchronized void open() throws IOException {
+        file.getParentFile().mkdirs();
+        try {
+            Class.forName("org.sqlite.JDBC");
+            connection = DriverManager.getConnection("jdbc:sqlite:" + file.getAbsolutePath());
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA synchronous=NORMAL");
+                statement.execute("CREATE TABLE IF NOT EXISTS player_settings ("
+                        + "uuid TEXT PRIMARY KEY NOT NULL, "
+                        + "data BLOB NOT NULL)");
+            }
+        } catch (ClassNotFoundException | SQLException e) {
+            throw new IOException("Failed to open " + file.getName(), e);
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Object> load(UUID uuid) throws IOException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT data FROM player_settings WHERE uuid = ?")) {
+            statement.setString(1, uuid.toString());
+            try (ResultSet result = statement.executeQuery()) {
+                if (!result.next()) return new LinkedHashMap<>();
+                return SettingsCodec.decode(result.getBytes(1));
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to load settings for " + uuid, e);
+        }
+    }
+
+    @Override
+    public synchronized void save(UUID uuid, Map<String, Object> values) throws IOException {
+        try {
+            if (values.isEmpty()) {
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "DELETE FROM player_settings WHERE uuid = ?")) {
+                    statement.setString(1, uuid.toString());
+                    statement.executeUpdate();
+                }
+                return;
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT OR REPLACE INTO player_settings (uuid, data) VALUES (?, ?)")) {
+                statement.setString(1, uuid.toString());
+                statement.setBytes(2, SettingsCodec.encode(values));
+                statement.executeUpdate();
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to save settings for " + uuid, e);
+        }
+    }
+
+    @Override
+    public synchronized Set<UUID> listPlayers() throws IOException {
+        Set<UUID> players = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT uuid FROM player_settings")) {
+            while (result.next()) {
+                players.add(UUID.fromString(result.getString(1)));
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to list players", e);
+        }
+        return players;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (connection == null) return;
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            plugin.getLogger().warning("Failed to close " + file.getName() + ": " + e.getMessage());
+        }
+        connection = null;
+    }
+
+    @Override
+    public StorageType getType() {
+        return StorageType.SQLITE;
+    }
+}
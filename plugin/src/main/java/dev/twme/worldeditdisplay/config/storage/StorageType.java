@@ -0,0 +1,45 @@
+package dev.twme.worldeditdisplay.config.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+
+/**
+ * Enum of available player settings storage backends
+ */
+public enum StorageType {
+    YAML("yaml", YamlSettingsStore::new),
+    BINARY("binary", BinarySettingsStore::new),
+    SQLITE("sqlite", SqliteSettingsStore::new),
+    PDC("pdc", PdcSettingsStore::new);
+
+    private static final Map<String, StorageType> BY_KEY = new HashMap<>();
+
+    private final String key;
+    private final Function<WorldEditDisplay, PlayerSettingsStore> maker;
+
+    StorageType(String key, Function<WorldEditDisplay, PlayerSettingsStore> maker) {
+        this.key = key;
+        this.maker = maker;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public PlayerSettingsStore createStore(WorldEditDisplay plugin) {
+        return maker.apply(plugin);
+    }
+
+    static {
+        for (StorageType type : values()) {
+            BY_KEY.put(type.getKey(), type);
+        }
+    }
+
+    public static StorageType fromKey(String key) {
+        return key == null ? null : BY_KEY.get(key.toLowerCase());
+    }
+}
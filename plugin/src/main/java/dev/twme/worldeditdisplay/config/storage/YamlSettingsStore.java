@@ -0,0 +1,90 @@
+package dev.twme.worldeditdisplay.config.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+
+/**
+ * One YAML file per player under player_config/ (the original format)
+ */
+public class YamlSettingsStore implements PlayerSettingsStore {
+
+    private final File directory;
+
+    public YamlSettingsStore(WorldEditDisplay plugin) {
+        this.directory = new File(plugin.getDataFolder(), "player_config");
+    }
+
+    @Override
+    public void open() {
+        if (!directory.exists()) directory.mkdirs();
+    }
+
+    @Override
+    public Map<String, Object> load(UUID uuid) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        File file = getFile(uuid);
+        if (!file.exists()) return values;
+
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        for (Map.Entry<String, Object> entry : config.getValues(true).entrySet()) {
+            if (!(entry.getValue() instanceof ConfigurationSection)) {
+                values.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void save(UUID uuid, Map<String, Object> values) throws IOException {
+        File file = getFile(uuid);
+        if (values.isEmpty()) {
+            Files.deleteIfExists(file.toPath());
+            return;
+        }
+
+        YamlConfiguration config = new YamlConfiguration();
+        values.forEach(config::set);
+        config.save(file);
+    }
+
+    @Override
+    public Set<UUID> listPlayers() {
+        Set<UUID> players = new HashSet<>();
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (files == null) return players;
+
+        for (File file : files) {
+            String name = file.getName();
+            try {
+                players.add(UUID.fromString(name.substring(0, name.length() - 4)));
+            } catch (IllegalArgumentException ignored) {
+                // not a player file
+            }
+        }
+        return players;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public StorageType getType() {
+        return StorageType.YAML;
+    }
+
+    private File getFile(UUID uuid) {
+        return new File(directory, uuid + ".yml");
+    }
+}
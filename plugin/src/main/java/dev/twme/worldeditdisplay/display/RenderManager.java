@@ -0,0 +1,503 @@
+package dev.twme.worldeditdisplay.display;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import org.bukkit.entity.Player;
+
+import dev.twme.worldeditdisplay.display.renderer.CuboidRenderer;
+import dev.twme.worldeditdisplay.display.packet.PacketEventsSink;
+import dev.twme.worldeditdisplay.display.packet.PacketSink;
+import dev.twme.worldeditdisplay.display.renderer.CylinderRenderer;
+import dev.twme.worldeditdisplay.display.renderer.EllipsoidRenderer;
+import dev.twme.worldeditdisplay.display.renderer.PolygonRenderer;
+import dev.twme.worldeditdisplay.display.renderer.PolyhedronRenderer;
+import dev.twme.worldeditdisplay.display.renderer.RegionRenderer;
+import dev.twme.worldeditdisplay.display.renderer.RenderConfig;
+import dev.twme.worldeditdisplay.metrics.SlowRenderDetector;
+import dev.twme.worldeditdisplay.player.PlayerData;
+import dev.twme.worldeditdisplay.region.CuboidRegion;
+import dev.twme.worldeditdisplay.region.CylinderRegion;
+import dev.twme.worldeditdisplay.region.EllipsoidRegion;
+import dev.twme.worldeditdisplay.region.PolygonRegion;
+import dev.twme.worldeditdisplay.region.PolyhedronRegion;
+import dev.twme.worldeditdisplay.region.Region;
+import dev.twme.worldeditdisplay.region.RegionType;
+import dev.twme.worldeditdisplay.util.MessageUtil;
+
+/**
+ * keeps track of player renderers
+ * handles main and extra regions for players
+ */
+public class RenderManager {
+
+    private final WorldEditDisplay plugin;
+
+    private final Map<UUID, RegionRenderer> mainRenderers;
+    private final Map<UUID, Map<UUID, RegionRenderer>> multiRenderers;
+    private final Map<Class<? extends Region>, Class<? extends RegionRenderer>> rendererTypes;
+
+    // where new renderers send their packets
+    private volatile PacketSink packetSink = PacketEventsSink.INSTANCE;
+    private final Map<UUID, PacketSink> playerPacketSinks = new ConcurrentHashMap<>();
+    private final boolean measurePacketBytes;
+
+    // display setup of new renderers, per player overrides for load tests
+    private volatile RenderConfig renderConfig;
+    private final Map<UUID, RenderConfig> playerRenderConfigs = new ConcurrentHashMap<>();
+
+    // owner -> players watching the owner's selections, and the reverse
+    private final Map<UUID, Set<UUID>> watchers = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> watching = new ConcurrentHashMap<>();
+
+    private final SlowRenderDetector slowRenderDetector;
+    private final RenderQueue renderQueue;
+    private final RenderScheduler renderScheduler;
+
+    public RenderManager(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+        this.mainRenderers = new ConcurrentHashMap<>();
+        this.multiRenderers = new ConcurrentHashMap<>();
+        this.rendererTypes = new HashMap<>();
+        this.measurePacketBytes = plugin.getConfig().getBoolean("metrics.measure_packet_bytes", false);
+        this.renderConfig = loadRenderConfig();
+        this.slowRenderDetector = new SlowRenderDetector(plugin);
+        this.renderQueue = new RenderQueue(plugin);
+        this.renderQueue.start();
+        this.renderScheduler = new RenderScheduler(plugin, this);
+        this.renderScheduler.start();
+
+        registerRendererTypes();
+        plugin.getLogger().info("RenderManager started");
+    }
+
+    /**
+     * re-read the display setup and the scheduler and progressive queue settings after a config reload
+     * renderers without a per player override draw with the new setup from their next pass
+     *
+     * @return selection types whose rendering the new display setup changes
+     */
+    public Set<RegionType> reloadRenderConfig() {
+        renderQueue.reload();
+        renderScheduler.reload();
+
+        RenderConfig updated = loadRenderConfig();
+        RenderConfig previous = renderConfig;
+        renderConfig = updated;
+
+        Set<RegionType> affected = EnumSet.noneOf(RegionType.class);
+        if (updated.getPrimitive() != previous.getPrimitive() || updated.hasCullingBounds() != previous.hasCullingBounds()) {
+            affected.addAll(EnumSet.allOf(RegionType.class));
+        } else if (updated.getGridPack() != previous.getGridPack()) {
+            affected.add(RegionType.CUBOID);
+        }
+        if (affected.isEmpty()) return affected;
+
+        Set<UUID> players = new HashSet<>(mainRenderers.keySet());
+        players.addAll(multiRenderers.keySet());
+        for (UUID playerId : players) {
+            if (playerRenderConfigs.containsKey(playerId)) continue;
+            for (RegionRenderer renderer : renderersOf(playerId)) {
+                renderer.setConfig(updated);
+            }
+        }
+        return affected;
+    }
+
+    private RenderConfig loadRenderConfig() {
+        String key = plugin.getConfig().getString("render.primitive", RenderConfig.Primitive.ITEM_DISPLAY.getKey());
+        RenderConfig.Primitive primitive = RenderConfig.Primitive.fromKey(key);
+        if (primitive == null) {
+            plugin.getLogger().warning("unknown render.primitive: " + key + ", using item_display");
+            primitive = RenderConfig.Primitive.ITEM_DISPLAY;
+        }
+        return RenderConfig.builder()
+                .primitive(primitive)
+                .cullingBounds(plugin.getConfig().getBoolean("render.culling_bounds", true))
+                .gridPack(plugin.getGridResourcePack())
+                .build();
+    }
+
+    private void registerRendererTypes() {
+        rendererTypes.put(CuboidRegion.class, CuboidRenderer.class);
+        rendererTypes.put(PolygonRegion.class, PolygonRenderer.class);
+        rendererTypes.put(EllipsoidRegion.class, EllipsoidRenderer.class);
+        rendererTypes.put(CylinderRegion.class, CylinderRenderer.class);
+        rendererTypes.put(PolyhedronRegion.class, PolyhedronRenderer.class);
+
+        plugin.getLogger().info("renderer types registered: " + rendererTypes.size());
+    }
+
+    /**
+     * queue a render for one player, run by the fair share scheduler on a later tick
+     */
+    public void requestRender(Player player) {
+        renderScheduler.request(player);
+    }
+
+    /**
+     * update renders for one player now
+     */
+    public void updateRender(Player player) {
+        UUID playerId = player.getUniqueId();
+        PlayerData playerData = PlayerData.getPlayerData(player);
+
+        if (playerData == null) {
+            plugin.getLogger().warning("no player data: " + player.getName());
+            recordSkipped();
+            return;
+        }
+
+        if (!playerData.isRenderingEnabled()) {
+            clearRender(playerId);
+            recordSkipped();
+            return;
+        }
+
+        // CUI events for this player wait until the render has read the regions
+        synchronized (playerData.getLock()) {
+            updateMainSelection(player, playerId, playerData.getSelection());
+            updateMultiSelections(player, playerId, playerData.getMultiRegions());
+        }
+    }
+
+    private void recordSkipped() {
+        if (plugin.getRenderMetrics() != null) plugin.getRenderMetrics().recordRenderSkipped();
+    }
+
+    private void updateMainSelection(Player player, UUID playerId, Region mainSelection) {
+        RegionRenderer currentRenderer = mainRenderers.get(playerId);
+
+        if (mainSelection == null) {
+            if (currentRenderer != null) {
+                currentRenderer.clear();
+                mainRenderers.remove(playerId);
+            }
+            return;
+        }
+
+        if (currentRenderer != null && !currentRenderer.getRegionType().equals(mainSelection.getClass())) {
+            currentRenderer.clear();
+            mainRenderers.remove(playerId);
+            currentRenderer = null;
+        }
+
+        if (currentRenderer == null) {
+            currentRenderer = createRenderer(player, mainSelection);
+            if (currentRenderer != null) mainRenderers.put(playerId, currentRenderer);
+            else {
+                plugin.getLogger().warning("cannot make renderer: " + mainSelection.getClass().getSimpleName());
+                return;
+            }
+        }
+
+        try {
+            renderTimed(player, currentRenderer, mainSelection, false);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "main render fail: " + player.getName(), e);
+        }
+    }
+
+    private void updateMultiSelections(Player player, UUID playerId, Map<UUID, Region> multiRegions) {
+        Map<UUID, RegionRenderer> playerMultiRenderers = multiRenderers.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>());
+
+        // remove old regions
+        playerMultiRenderers.keySet().removeIf(regionId -> {
+            if (!multiRegions.containsKey(regionId)) {
+                RegionRenderer renderer = playerMultiRenderers.remove(regionId);
+                if (renderer != null) renderer.clear();
+                return true;
+            }
+            return false;
+        });
+
+        for (Map.Entry<UUID, Region> entry : multiRegions.entrySet()) {
+            UUID regionId = entry.getKey();
+            Region region = entry.getValue();
+            if (region == null) continue;
+
+            RegionRenderer renderer = playerMultiRenderers.get(regionId);
+
+            if (renderer != null && !renderer.getRegionType().equals(region.getClass())) {
+                renderer.clear();
+                playerMultiRenderers.remove(regionId);
+                renderer = null;
+            }
+
+            if (renderer == null) {
+                renderer = createRenderer(player, region);
+                if (renderer != null) playerMultiRenderers.put(regionId, renderer);
+                else {
+                    plugin.getLogger().warning("cannot make multi renderer: " + region.getClass().getSimpleName());
+                    continue;
+                }
+            }
+
+            try {
+                renderTimed(player, renderer, region, true);
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.SEVERE, "multi render fail: " + player.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Render a region and hand the pass time to the slow render detector
+     */
+    @SuppressWarnings("unchecked")
+    private void renderTimed(Player player, RegionRenderer renderer, Region region, boolean multi) {
+        long start = System.nanoTime();
+        renderer.render(region);
+        long nanos = System.nanoTime() - start;
+
+        if (slowRenderDetector.isEnabled()) {
+            slowRenderDetector.check(player, region, multi, renderer.getResolvedSettings(), renderer.getEntityCount(), nanos);
+        }
+    }
+
+    public void clearRender(UUID playerId) {
+        RegionRenderer mainRenderer = mainRenderers.remove(playerId);
+        if (mainRenderer != null) mainRenderer.clear();
+
+        Map<UUID, RegionRenderer> playerMultiRenderers = multiRenderers.remove(playerId);
+        if (playerMultiRenderers != null) {
+            playerMultiRenderers.values().forEach(RegionRenderer::clear);
+            playerMultiRenderers.clear();
+        }
+    }
+
+    /**
+     * drop everything kept for a player that left
+     */
+    public void forgetPlayer(UUID playerId) {
+        renderScheduler.forget(playerId);
+        unwatch(playerId);
+        clearRender(playerId);
+        slowRenderDetector.forget(playerId);
+
+        // the owner's entities are gone for watchers too, tell them
+        Set<UUID> ownWatchers = watchers.remove(playerId);
+        if (ownWatchers != null) {
+            for (UUID watcherId : ownWatchers) {
+                watching.remove(watcherId, playerId);
+                Player watcher = plugin.getServer().getPlayer(watcherId);
+                if (watcher != null) MessageUtil.sendTranslated(watcher, "command.wedisplay.watch.target_left");
+            }
+        }
+    }
+
+    /**
+     * show a player's selections to a watcher as well, using the same entities
+     * a watcher follows one player at a time
+     */
+    public void watch(Player watcher, Player target) {
+        UUID watcherId = watcher.getUniqueId();
+        UUID targetId = target.getUniqueId();
+        unwatch(watcherId);
+
+        watching.put(watcherId, targetId);
+        watchers.computeIfAbsent(targetId, k -> ConcurrentHashMap.newKeySet()).add(watcherId);
+        for (RegionRenderer renderer : renderersOf(targetId)) {
+            renderer.addViewer(watcher);
+        }
+    }
+
+    /**
+     * stop watching, the watched selections disappear for the watcher
+     *
+     * @return the player that was watched, null if none
+     */
+    public UUID unwatch(UUID watcherId) {
+        UUID targetId = watching.remove(watcherId);
+        if (targetId == null) return null;
+
+        Set<UUID> targetWatchers = watchers.get(targetId);
+        if (targetWatchers != null) {
+            targetWatchers.remove(watcherId);
+            if (targetWatchers.isEmpty()) watchers.remove(targetId, targetWatchers);
+        }
+        for (RegionRenderer renderer : renderersOf(targetId)) {
+            renderer.removeViewer(watcherId);
+        }
+        return targetId;
+    }
+
+    public UUID getWatchedPlayer(UUID watcherId) {
+        return watching.get(watcherId);
+    }
+
+    /**
+     * main and multi selection renderers of a player
+     */
+    public List<RegionRenderer> renderersOf(UUID playerId) {
+        List<RegionRenderer> renderers = new ArrayList<>();
+        RegionRenderer mainRenderer = mainRenderers.get(playerId);
+        if (mainRenderer != null) renderers.add(mainRenderer);
+        Map<UUID, RegionRenderer> playerMultiRenderers = multiRenderers.get(playerId);
+        if (playerMultiRenderers != null) renderers.addAll(playerMultiRenderers.values());
+        return renderers;
+    }
+
+    public void clearAllRenders() {
+        mainRenderers.values().forEach(RegionRenderer::clear);
+        mainRenderers.clear();
+
+        multiRenderers.values().forEach(playerRenderers -> {
+            playerRenderers.values().forEach(RegionRenderer::clear);
+            playerRenderers.clear();
+        });
+        multiRenderers.clear();
+    }
+
+    private RegionRenderer createRenderer(Player player, Region region) {
+        Class<? extends RegionRenderer> rendererClass = rendererTypes.get(region.getClass());
+        if (rendererClass == null) {
+            plugin.getLogger().warning("renderer not found: " + region.getClass().getSimpleName());
+            return null;
+        }
+
+        try {
+            var playerSettings = plugin.getPlayerSettingsManager().getSettings(player.getUniqueId());
+            RegionRenderer renderer = rendererClass
+                    .getConstructor(WorldEditDisplay.class, Player.class, dev.twme.worldeditdisplay.config.PlayerRenderSettings.class)
+                    .newInstance(plugin, player, playerSettings);
+            renderer.setPacketSink(playerPacketSinks.getOrDefault(player.getUniqueId(), packetSink), measurePacketBytes);
+            renderer.setRenderQueue(renderQueue);
+            renderer.setConfig(playerRenderConfigs.getOrDefault(player.getUniqueId(), renderConfig));
+
+            Set<UUID> ownerWatchers = watchers.get(player.getUniqueId());
+            if (ownerWatchers != null) {
+                for (UUID watcherId : ownerWatchers) {
+                    Player watcher = plugin.getServer().getPlayer(watcherId);
+                    if (watcher != null) renderer.addViewer(watcher);
+                }
+            }
+            return renderer;
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "cannot create renderer: " + rendererClass.getSimpleName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * send packets of renderers created from now on to another sink
+     * existing renderers keep theirs until they are recreated
+     */
+    public void setPacketSink(PacketSink packetSink) {
+        this.packetSink = packetSink;
+    }
+
+    public PacketSink getPacketSink() {
+        return packetSink;
+    }
+
+    /**
+     * send one player's packets to another sink, e.g. virtual load test players
+     */
+    public void setPacketSink(UUID playerId, PacketSink packetSink) {
+        playerPacketSinks.put(playerId, packetSink);
+    }
+
+    public void removePacketSink(UUID playerId) {
+        playerPacketSinks.remove(playerId);
+    }
+
+    /**
+     * render one player with another display setup, e.g. to compare primitives in a load test
+     */
+    public void setRenderConfig(UUID playerId, RenderConfig config) {
+        playerRenderConfigs.put(playerId, config);
+    }
+
+    public void removeRenderConfig(UUID playerId) {
+        playerRenderConfigs.remove(playerId);
+    }
+
+    public RenderConfig getRenderConfig() {
+        return renderConfig;
+    }
+
+    public SlowRenderDetector getSlowRenderDetector() {
+        return slowRenderDetector;
+    }
+
+    public RegionRenderer getRenderer(UUID playerId) {
+        return mainRenderers.get(playerId);
+    }
+
+    public boolean hasActiveRender(UUID playerId) {
+        boolean hasMain = mainRenderers.containsKey(playerId);
+        boolean hasMulti = multiRenderers.containsKey(playerId) && !multiRenderers.get(playerId).isEmpty();
+        return hasMain || hasMulti;
+    }
+
+    /**
+     * whether a render of the player is queued, running, or still has entities waiting to be sent
+     */
+    public boolean isRenderPending(UUID playerId) {
+        if (renderScheduler.isPending(playerId)) return true;
+        for (RegionRenderer renderer : renderersOf(playerId)) {
+            if (renderer.hasPending()) return true;
+        }
+        return false;
+    }
+
+    public int getActiveRenderCount() {
+        int mainCount = mainRenderers.size();
+        int multiCount = multiRenderers.values().stream().mapToInt(Map::size).sum();
+        return mainCount + multiCount;
+    }
+
+    /**
+     * queue re-renders for players whose selections use one of the given types
+     * the render scheduler spreads them over ticks, so a reload on a full server doesn't spike one tick
+     */
+    public void rerenderAffected(Set<RegionType> affected) {
+        Set<UUID> players = new HashSet<>(mainRenderers.keySet());
+        players.addAll(multiRenderers.keySet());
+
+        for (UUID playerId : players) {
+            Player player = plugin.getServer().getPlayer(playerId);
+            if (player == null) continue;
+            PlayerData playerData = PlayerData.getPlayerData(player);
+            if (playerData != null && usesAnyType(playerData, affected)) {
+                requestRender(player);
+            }
+        }
+    }
+
+    private boolean usesAnyType(PlayerData playerData, Set<RegionType> types) {
+        Region selection = playerData.getSelection();
+        if (selection != null && types.contains(selection.getType())) return true;
+
+        for (Region region : playerData.getMultiRegions().values()) {
+            if (region != null && types.contains(region.getType())) return true;
+        }
+        return false;
+    }
+
+    public void shutdown() {
+        plugin.getLogger().info("shutdown render manager");
+        renderScheduler.stop();
+        renderQueue.stop();
+        clearAllRenders();
+        watchers.clear();
+        watching.clear();
+    }
+
+    public void refreshPlayerRenderer(Player player) {
+        UUID playerId = player.getUniqueId();
+        clearRender(playerId);
+        updateRender(player);
+        plugin.getLogger().fine("refreshed renderer for " + player.getName());
+    }
+}
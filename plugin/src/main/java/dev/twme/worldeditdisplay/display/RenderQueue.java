@@ -0,0 +1,145 @@
+package dev.twme.worldeditdisplay.display;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.display.renderer.RegionRenderer;
+import dev.twme.worldeditdisplay.scheduler.TaskHandle;
+
+/**
+ * Spreads the spawn packets of large render passes over several ticks.
+ *
+ * A pass with more primitives than render.progressive.threshold emits its
+ * nearest initial_batch entities right away and parks the rest in its
+ * renderer; every tick the queue drains parked entities round robin across
+ * renderers until the packet or time budget for that tick is used up.
+ *
+ * With render.backpressure enabled, renderers also park whatever they could
+ * not send while the player's channel was not writable; those players are
+ * retried each tick and skipped while still saturated.
+ */
+public class RenderQueue {
+
+    private static final int DEFAULT_THRESHOLD = 256;
+    private static final int DEFAULT_INITIAL_BATCH = 256;
+    private static final int DEFAULT_PACKETS_PER_TICK = 1024;
+    private static final double DEFAULT_MAX_TICK_MS = 2.0;
+
+    // entities emitted per renderer before moving on to the next one
+    private static final int CHUNK = 32;
+
+    private final WorldEditDisplay plugin;
+
+    // re-read on config reload
+    private volatile boolean enabled;
+    private volatile boolean backpressure;
+    private volatile int threshold;
+    private volatile int initialBatch;
+    private volatile int packetsPerTick;
+    private volatile long maxTickNanos;
+
+    private final Set<RegionRenderer<?>> waiting = ConcurrentHashMap.newKeySet();
+    private TaskHandle task;
+
+    public RenderQueue(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+        loadSettings();
+    }
+
+    private void loadSettings() {
+        enabled = plugin.getConfig().getBoolean("render.progressive.enabled", true);
+        backpressure = plugin.getConfig().getBoolean("render.backpressure.enabled", true);
+        threshold = Math.max(1, plugin.getConfig().getInt("render.progressive.threshold", DEFAULT_THRESHOLD));
+        initialBatch = Math.max(1, plugin.getConfig().getInt("render.progressive.initial_batch", DEFAULT_INITIAL_BATCH));
+        packetsPerTick = Math.max(1, plugin.getConfig().getInt("render.progressive.packets_per_tick", DEFAULT_PACKETS_PER_TICK));
+        maxTickNanos = (long) (TimeUnit.MILLISECONDS.toNanos(1)
+                * Math.max(0.1, plugin.getConfig().getDouble("render.progressive.max_tick_ms", DEFAULT_MAX_TICK_MS)));
+    }
+
+    /**
+     * Re-read the progressive and backpressure settings after a config reload.
+     * Turning both off keeps the tick running until parked entities are sent.
+     */
+    public void reload() {
+        loadSettings();
+        start();
+    }
+
+    public void start() {
+        if ((!enabled && !backpressure) || task != null) return;
+        task = plugin.getTaskScheduler().runGlobalTimer(this::drain, 1L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        waiting.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether renderers hold back packets while the player's connection is saturated
+     */
+    public boolean isBackpressureEnabled() {
+        return backpressure;
+    }
+
+    /**
+     * Primitive count above which a pass is emitted progressively
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public int getInitialBatch() {
+        return initialBatch;
+    }
+
+    /**
+     * Called by a renderer that parked entities for later ticks
+     */
+    public void schedule(RegionRenderer<?> renderer) {
+        waiting.add(renderer);
+    }
+
+    private void drain() {
+        if (waiting.isEmpty()) return;
+
+        long start = System.nanoTime();
+        int budget = packetsPerTick;
+
+        while (budget > 0 && !waiting.isEmpty()) {
+            boolean progress = false;
+            Iterator<RegionRenderer<?>> iterator = waiting.iterator();
+            while (iterator.hasNext() && budget > 0) {
+                RegionRenderer<?> renderer = iterator.next();
+                try {
+                    // each entity costs a spawn and a metadata packet
+                    int emitted = renderer.emitPending(Math.min(CHUNK, Math.max(1, budget / 2)));
+                    budget -= emitted * 2;
+                    if (emitted > 0) progress = true;
+                } catch (Exception e) {
+                    plugin.getLogger().log(Level.WARNING, "progressive spawn failed: " + renderer.getPlayer().getName(), e);
+                    renderer.dropPending();
+                }
+                if (!renderer.hasPending()) {
+                    iterator.remove();
+                    // a new pass may have parked entities in between
+                    if (renderer.hasPending()) waiting.add(renderer);
+                }
+
+                if (System.nanoTime() - start >= maxTickNanos) return;
+            }
+            if (!progress) return;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package dev.twme.worldeditdisplay.display;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.metrics.RenderMetrics;
+import dev.twme.worldeditdisplay.metrics.RenderPhase;
+import dev.twme.worldeditdisplay.scheduler.TaskHandle;
+import dev.twme.worldeditdisplay.scheduler.TaskScheduler;
+
+/**
+ * Weighted fair queue for render requests across players.
+ *
+ * CUI events only mark their player as dirty; once per tick the scheduler
+ * renders dirty players in order of virtual start time until the tick
+ * budget is spent. A render advances its player's virtual time by its cost
+ * divided by the player's weight, so a player flooding selections pays for
+ * it and others keep their turn. Weights come from permission tiers
+ * (worldeditdisplay.render.tier.&lt;name&gt;). Players waiting max_wait_ticks
+ * or longer are rendered regardless of the budget.
+ *
+ * Several requests before a player's turn collapse into one render.
+ *
+ * On Folia the order is still decided on the global tick, but each render
+ * runs on the thread owning the player's region; the budget is then
+ * charged with the player's last measured render cost.
+ */
+public class RenderScheduler {
+
+    private static final String TIER_PERMISSION = "worldeditdisplay.render.tier.";
+    private static final double DEFAULT_TICK_BUDGET_MS = 2.0;
+    private static final int DEFAULT_MAX_WAIT_TICKS = 5;
+
+    private final WorldEditDisplay plugin;
+    private final RenderManager renderManager;
+
+    // re-read on config reload
+    private volatile boolean enabled;
+    private volatile long tickBudgetNanos;
+    private volatile int maxWaitTicks;
+    private volatile Map<String, Double> tiers = Map.of();
+
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+    private TaskHandle task;
+
+    // advanced on the scheduler tick, read when requests arrive
+    private volatile long tick;
+
+    // guarded by this; renders may finish on region threads
+    private double virtualClock;
+
+    private static final class Job {
+        final UUID playerId;
+        double weight;
+        Player player;
+        boolean queued;
+        // dispatched or rendering
+        boolean busy;
+        long queuedTick;
+        long queuedNanos;
+        long lastCost;
+        double finish;
+
+        Job(Player player) {
+            this.playerId = player.getUniqueId();
+            this.player = player;
+        }
+    }
+
+    public RenderScheduler(WorldEditDisplay plugin, RenderManager renderManager) {
+        this.plugin = plugin;
+        this.renderManager = renderManager;
+        loadSettings();
+    }
+
+    private void loadSettings() {
+        enabled = plugin.getConfig().getBoolean("render.scheduler.enabled", true);
+        tickBudgetNanos = (long) (TimeUnit.MILLISECONDS.toNanos(1)
+                * Math.max(0.1, plugin.getConfig().getDouble("render.scheduler.tick_budget_ms", DEFAULT_TICK_BUDGET_MS)));
+        maxWaitTicks = Math.max(1, plugin.getConfig().getInt("render.scheduler.max_wait_ticks", DEFAULT_MAX_WAIT_TICKS));
+
+        Map<String, Double> loaded = new LinkedHashMap<>();
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("render.scheduler.tiers");
+        if (section != null) {
+            for (String name : section.getKeys(false)) {
+                double weight = section.getDouble(name, 1.0);
+                if (weight > 0) loaded.put(name, weight);
+            }
+        }
+        tiers = loaded;
+    }
+
+    /**
+     * Re-read the scheduler settings after a config reload. Turning the
+     * scheduler off keeps the tick running until already queued renders are done.
+     */
+    public void reload() {
+        loadSettings();
+        start();
+    }
+
+    public void start() {
+        if (!enabled || task != null) return;
+        task = plugin.getTaskScheduler().runGlobalTimer(this::drain, 1L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        jobs.clear();
+    }
+
+    /**
+     * Ask for a render of the player's selections; renders right away when the scheduler is off
+     */
+    public void request(Player player) {
+        if (!enabled) {
+            TaskScheduler scheduler = plugin.getTaskScheduler();
+            if (scheduler.isRegionThreaded()) scheduler.runForEntity(player, () -> renderManager.updateRender(player));
+            else renderManager.updateRender(player);
+            return;
+        }
+
+        Job job = jobs.computeIfAbsent(player.getUniqueId(), id -> new Job(player));
+        synchronized (job) {
+            job.player = player;
+            if (job.queued) {
+                RenderMetrics metrics = plugin.getRenderMetrics();
+                if (metrics != null) metrics.recordRenderCoalesced();
+                return;
+            }
+            // tiers may have changed since the last render, by permission or reload
+            job.weight = weightOf(player);
+            job.queued = true;
+            job.queuedTick = tick;
+            job.queuedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Drop a player's pending render and fair share history
+     */
+    public void forget(UUID playerId) {
+        jobs.remove(playerId);
+    }
+
+    /**
+     * Whether a render of the player is queued or still running
+     */
+    public boolean isPending(UUID playerId) {
+        Job job = jobs.get(playerId);
+        if (job == null) return false;
+        synchronized (job) {
+            return job.queued || job.busy;
+        }
+    }
+
+    /**
+     * Highest weight among the tiers the player has, 1 without any
+     */
+    private double weightOf(Player player) {
+        double weight = 1.0;
+        for (Map.Entry<String, Double> tier : tiers.entrySet()) {
+            if (tier.getValue() > weight && player.hasPermission(TIER_PERMISSION + tier.getKey())) {
+                weight = tier.getValue();
+            }
+        }
+        return weight;
+    }
+
+    private void drain() {
+        tick++;
+        if (jobs.isEmpty()) return;
+
+        List<Job> starving = new ArrayList<>();
+        List<Job> ready = new ArrayList<>();
+        for (Job job : jobs.values()) {
+            synchronized (job) {
+                if (!job.queued) continue;
+                if (tick - job.queuedTick >= maxWaitTicks) starving.add(job);
+                else ready.add(job);
+            }
+        }
+        if (starving.isEmpty() && ready.isEmpty()) return;
+
+        starving.sort((a, b) -> Long.compare(a.queuedTick, b.queuedTick));
+        synchronized (this) {
+            ready.sort((a, b) -> Double.compare(startOf(a), startOf(b)));
+        }
+
+        TaskScheduler scheduler = plugin.getTaskScheduler();
+        if (scheduler.isRegionThreaded()) {
+            long charged = 0;
+            for (Job job : starving) {
+                charged += dispatch(scheduler, job);
+            }
+            for (Job job : ready) {
+                if (charged >= tickBudgetNanos) break;
+                charged += dispatch(scheduler, job);
+            }
+            return;
+        }
+
+        long start = System.nanoTime();
+        for (Job job : starving) {
+            run(job);
+        }
+        for (Job job : ready) {
+            if (System.nanoTime() - start >= tickBudgetNanos) break;
+            run(job);
+        }
+    }
+
+    /**
+     * Hand a job to the thread owning the player
+     *
+     * @return the cost charged against this tick's budget
+     */
+    private long dispatch(TaskScheduler scheduler, Job job) {
+        Player player;
+        synchronized (job) {
+            // taken off the queue now so the next tick doesn't dispatch it again
+            job.queued = false;
+            job.busy = true;
+            player = job.player;
+        }
+        // a null task means the player is gone, quit handling will forget the job
+        if (scheduler.runForEntity(player, () -> run(job)) == null) {
+            synchronized (job) {
+                job.busy = false;
+            }
+            return 0;
+        }
+
+        synchronized (this) {
+            return job.lastCost;
+        }
+    }
+
+    private double startOf(Job job) {
+        return Math.max(job.finish, virtualClock);
+    }
+
+    private void run(Job job) {
+        Player player;
+        double weight;
+        long waited;
+        synchronized (job) {
+            // requests arriving while rendering queue the next pass
+            job.queued = false;
+            job.busy = true;
+            player = job.player;
+            weight = job.weight;
+            waited = System.nanoTime() - job.queuedNanos;
+        }
+
+        RenderMetrics metrics = plugin.getRenderMetrics();
+        if (metrics != null) metrics.recordPhase(RenderPhase.QUEUE_WAIT, waited);
+
+        double begin;
+        synchronized (this) {
+            begin = startOf(job);
+            virtualClock = Math.max(virtualClock, begin);
+        }
+
+        long renderStart = System.nanoTime();
+        try {
+            if (player.isOnline()) renderManager.updateRender(player);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "scheduled render fail: " + player.getName(), e);
+        }
+        long cost = System.nanoTime() - renderStart;
+
+        synchronized (this) {
+            job.lastCost = cost;
+            job.finish = begin + cost / weight;
+        }
+        synchronized (job) {
+            job.busy = false;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package dev.twme.worldeditdisplay.display.geometry;
+
+import java.util.List;
+
+import org.joml.Vector3f;
+
+/**
+ * Box frames used for edges, point markers and center cubes
+ */
+public final class BoxGeometry {
+
+    // point markers are slightly larger than the block so they don't z-fight
+    private static final double MARKER_PADDING = 0.03;
+
+    private BoxGeometry() {
+    }
+
+    /**
+     * The 12 edges of an axis aligned box
+     */
+    public static List<Line> frame(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        Vector3f v000 = new Vector3f((float) minX, (float) minY, (float) minZ);
+        Vector3f v001 = new Vector3f((float) minX, (float) minY, (float) maxZ);
+        Vector3f v010 = new Vector3f((float) minX, (float) maxY, (float) minZ);
+        Vector3f v011 = new Vector3f((float) minX, (float) maxY, (float) maxZ);
+        Vector3f v100 = new Vector3f((float) maxX, (float) minY, (float) minZ);
+        Vector3f v101 = new Vector3f((float) maxX, (float) minY, (float) maxZ);
+        Vector3f v110 = new Vector3f((float) maxX, (float) maxY, (float) minZ);
+        Vector3f v111 = new Vector3f((float) maxX, (float) maxY, (float) maxZ);
+
+        return List.of(
+                // Bottom face
+                new Line(v000, v001), new Line(v000, v100),
+                new Line(v001, v101), new Line(v100, v101),
+
+                // Top face
+                new Line(v010, v011), new Line(v010, v110),
+                new Line(v011, v111), new Line(v110, v111),
+
+                // Vertical edges
+                new Line(v000, v010), new Line(v001, v011),
+                new Line(v100, v110), new Line(v101, v111)
+        );
+    }
+
+    /**
+     * A cube of the given size around a center point
+     */
+    public static List<Line> cube(Vector3f center, float size) {
+        float halfSize = size / 2.0f;
+        return frame(center.x - halfSize, center.y - halfSize, center.z - halfSize,
+                center.x + halfSize, center.y + halfSize, center.z + halfSize);
+    }
+
+    /**
+     * A padded frame around the block at the given block coordinates
+     */
+    public static List<Line> pointMarker(double x, double y, double z) {
+        return frame(x - MARKER_PADDING, y - MARKER_PADDING, z - MARKER_PADDING,
+                x + 1.0 + MARKER_PADDING, y + 1.0 + MARKER_PADDING, z + 1.0 + MARKER_PADDING);
+    }
+}
@@ -0,0 +1,102 @@
+package dev.twme.worldeditdisplay.display.geometry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joml.Vector3f;
+
+/**
+ * Face grids of a cuboid selection
+ */
+public final class CuboidGeometry {
+
+    public static final double MIN_SPACING = 1.0;
+    private static final double SKIP_THRESHOLD = 0.25;
+
+    private CuboidGeometry() {
+    }
+
+    /**
+     * Grid spacing along one axis when the selection has no explicit spacing
+     *
+     * @param size axis length in blocks
+     * @param division number of divisions to aim for
+     * @param maxSpacing upper bound, -1 for none
+     */
+    public static double gridSpacing(double size, int division, int maxSpacing) {
+        double spacing = Math.max(MIN_SPACING, (int) (size / division));
+        if (maxSpacing != -1) spacing = Math.min(spacing, maxSpacing);
+        return spacing;
+    }
+
+    /**
+     * Number of grid lines strictly inside one face axis, the ones grid() draws besides the edge
+     */
+    public static int innerLines(double size, double spacing) {
+        int count = 0;
+        for (double offset = spacing; offset <= size; offset += spacing) {
+            if (size - offset >= SKIP_THRESHOLD) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Grid lines on all six faces of the box (x1, y1, z1) - (x2, y2, z2)
+     */
+    public static List<Line> grid(double x1, double y1, double z1, double x2, double y2, double z2,
+                                  double spacingX, double spacingY, double spacingZ) {
+        List<Line> lines = new ArrayList<>();
+        double sizeX = x2 - x1, sizeY = y2 - y1, sizeZ = z2 - z1;
+        if (sizeX < MIN_SPACING && sizeY < MIN_SPACING && sizeZ < MIN_SPACING) return lines;
+
+        xzPlane(lines, x1, y1, z1, x2, z2, spacingX, spacingZ);
+        xzPlane(lines, x1, y2, z1, x2, z2, spacingX, spacingZ);
+        xyPlane(lines, x1, y1, z1, x2, y2, spacingX, spacingY);
+        xyPlane(lines, x1, y1, z2, x2, y2, spacingX, spacingY);
+        yzPlane(lines, x1, y1, z1, y2, z2, spacingY, spacingZ);
+        yzPlane(lines, x2, y1, z1, y2, z2, spacingY, spacingZ);
+        return lines;
+    }
+
+    private static void xzPlane(List<Line> lines, double x1, double y, double z1, double x2, double z2,
+                                double spacingX, double spacingZ) {
+        for (double z = z1; z <= z2; z += spacingZ) {
+            if (z > z1 && z2 - z < SKIP_THRESHOLD) continue;
+            lines.add(new Line(new Vector3f((float) x1, (float) y, (float) z),
+                    new Vector3f((float) x2, (float) y, (float) z)));
+        }
+        for (double x = x1; x <= x2; x += spacingX) {
+            if (x > x1 && x2 - x < SKIP_THRESHOLD) continue;
+            lines.add(new Line(new Vector3f((float) x, (float) y, (float) z1),
+                    new Vector3f((float) x, (float) y, (float) z2)));
+        }
+    }
+
+    private static void xyPlane(List<Line> lines, double x1, double y1, double z, double x2, double y2,
+                                double spacingX, double spacingY) {
+        for (double y = y1; y <= y2; y += spacingY) {
+            if (y > y1 && y2 - y < SKIP_THRESHOLD) continue;
+            lines.add(new Line(new Vector3f((float) x1, (float) y, (float) z),
+                    new Vector3f((float) x2, (float) y, (float) z)));
+        }
+        for (double x = x1; x <= x2; x += spacingX) {
+            if (x > x1 && x2 - x < SKIP_THRESHOLD) continue;
+            lines.add(new Line(new Vector3f((float) x, (float) y1, (float) z),
+                    new Vector3f((float) x, (float) y2, (float) z)));
+        }
+    }
+
+    private static void yzPlane(List<Line> lines, double x, double y1, double z1, double y2, double z2,
+                                double spacingY, double spacingZ) {
+        for (double z = z1; z <= z2; z += spacingZ) {
+            if (z > z1 && z2 - z < SKIP_THRESHOLD) continue;
+            lines.add(new Line(new Vector3f((float) x, (float) y1, (float) z),
+                    new Vector3f((float) x, (float) y2, (float) z)));
+        }
+        for (double y = y1; y <= y2; y += spacingY) {
+            if (y > y1 && y2 - y < SKIP_THRESHOLD) continue;
+            lines.add(new Line(new Vector3f((float) x, (float) y, (float) z1),
+                    new Vector3f((float) x, (float) y, (float) z2)));
+        }
+    }
+}
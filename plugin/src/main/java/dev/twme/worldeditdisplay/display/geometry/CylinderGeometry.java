@@ -0,0 +1,153 @@
+package dev.twme.worldeditdisplay.display.geometry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joml.Vector3f;
+
+/**
+ * Layer circles and vertical grid lines of a cylinder selection
+ */
+public final class CylinderGeometry {
+
+    private static final double TWO_PI = Math.PI * 2;
+
+    private CylinderGeometry() {
+    }
+
+    /**
+     * Grid lines split by style: lines through the center axis are drawn
+     * with the center line material
+     */
+    public record Grid(List<Line> grid, List<Line> center) {
+
+        private Grid() {
+            this(new ArrayList<>(), new ArrayList<>());
+        }
+
+        private void add(boolean isCenter, Line line) {
+            (isCenter ? center : grid).add(line);
+        }
+    }
+
+    /**
+     * Vertical distance between layer circles
+     */
+    public static int gridStep(int height, int division, int maxSpacing) {
+        int step = Math.max(1, height / division);
+        if (maxSpacing != -1) step = Math.min(step, maxSpacing);
+        return step;
+    }
+
+    /**
+     * Horizontal distance between vertical grid lines
+     */
+    public static int radiusGridStep(double radius, int division, int maxSpacing) {
+        int step = Math.max(1, (int) (radius / division));
+        if (maxSpacing != -1) step = Math.min(step, maxSpacing);
+        return step;
+    }
+
+    public static int circleSegments(double radiusX, double radiusZ, SegmentSettings segments) {
+        double avg = (radiusX + radiusZ) / 2.0;
+        int byLength = (int) Math.ceil(2 * Math.PI * avg / segments.targetLength());
+        int byRadius = (int) (segments.minSegments() + segments.sqrtScale() * Math.sqrt(avg));
+        return segments.clamp(Math.max(byLength, byRadius));
+    }
+
+    /**
+     * A closed horizontal ellipse at height y
+     */
+    public static List<Line> circle(double cx, double y, double cz, double radiusX, double radiusZ, int segments) {
+        Vector3f[] points = new Vector3f[segments];
+        for (int i = 0; i < segments; i++) {
+            double angle = i * TWO_PI / segments;
+            points[i] = new Vector3f((float) (cx + radiusX * Math.cos(angle)),
+                    (float) y,
+                    (float) (cz + radiusZ * Math.sin(angle)));
+        }
+
+        List<Line> lines = new ArrayList<>(segments);
+        for (int i = 0; i < segments; i++) {
+            lines.add(new Line(points[i], points[(i + 1) % segments]));
+        }
+        return lines;
+    }
+
+    /**
+     * Vertical lines on the cylinder wall, xStep / zStep blocks apart
+     */
+    public static Grid wallGrid(double centerX, double centerZ, double radiusX, double radiusZ,
+                                int minY, int maxY, int xStep, int zStep) {
+        Grid result = new Grid();
+        int posX = (int) Math.ceil(radiusX), negX = (int) -Math.ceil(radiusX);
+        int posZ = (int) Math.ceil(radiusZ), negZ = (int) -Math.ceil(radiusZ);
+
+        for (int dx = negX; dx <= posX; dx += xStep) {
+            double ratio = dx / radiusX;
+            if (Math.abs(ratio) > 1.0) continue;
+            double x = centerX + dx;
+            double offsetZ = radiusZ * Math.cos(Math.asin(ratio));
+            double z1 = centerZ - offsetZ, z2 = centerZ + offsetZ;
+
+            result.add(dx == 0, new Line(new Vector3f((float) x, (float) minY, (float) z1),
+                    new Vector3f((float) x, (float) maxY, (float) z1)));
+            result.add(dx == 0, new Line(new Vector3f((float) x, (float) minY, (float) z2),
+                    new Vector3f((float) x, (float) maxY, (float) z2)));
+        }
+
+        for (int dz = negZ; dz <= posZ; dz += zStep) {
+            double ratio = dz / radiusZ;
+            if (Math.abs(ratio) > 1.0) continue;
+            double z = centerZ + dz;
+            double offsetX = radiusX * Math.sin(Math.acos(ratio));
+            double x1 = centerX - offsetX, x2 = centerX + offsetX;
+
+            result.add(dz == 0, new Line(new Vector3f((float) x1, (float) minY, (float) z),
+                    new Vector3f((float) x1, (float) maxY, (float) z)));
+            result.add(dz == 0, new Line(new Vector3f((float) x2, (float) minY, (float) z),
+                    new Vector3f((float) x2, (float) maxY, (float) z)));
+        }
+        return result;
+    }
+
+    /**
+     * Flat grid for a cylinder with one zero radius: horizontal lines every
+     * stepY blocks plus a vertical line per block along the non-zero axis
+     */
+    public static Grid flatGrid(double centerX, double centerZ, double radiusX, double radiusZ,
+                                int minY, int maxY, int stepY) {
+        Grid result = new Grid();
+
+        if (radiusX == 0) {
+            double zMin = centerZ - radiusZ;
+            double zMax = centerZ + radiusZ;
+
+            for (int y = minY; y <= maxY + 1; y += stepY) {
+                result.add(false, new Line(new Vector3f((float) centerX, (float) y, (float) zMin),
+                        new Vector3f((float) centerX, (float) y, (float) zMax)));
+            }
+
+            for (int dz = (int) -Math.ceil(radiusZ); dz <= Math.ceil(radiusZ); dz++) {
+                double z = centerZ + dz;
+                result.add(dz == 0, new Line(new Vector3f((float) centerX, (float) minY, (float) z),
+                        new Vector3f((float) centerX, (float) (maxY + 1), (float) z)));
+            }
+        } else if (radiusZ == 0) {
+            double xMin = centerX - radiusX;
+            double xMax = centerX + radiusX;
+
+            for (int y = minY; y <= maxY + 1; y += stepY) {
+                result.add(false, new Line(new Vector3f((float) xMin, (float) y, (float) centerZ),
+                        new Vector3f((float) xMax, (float) y, (float) centerZ)));
+            }
+
+            for (int dx = (int) -Math.ceil(radiusX); dx <= Math.ceil(radiusX); dx++) {
+                double x = centerX + dx;
+                result.add(dx == 0, new Line(new Vector3f((float) x, (float) minY, (float) centerZ),
+                        new Vector3f((float) x, (float) (maxY + 1), (float) centerZ)));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,97 @@
+package dev.twme.worldeditdisplay.display.geometry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.joml.Vector3f;
+
+/**
+ * Ellipse slices of an ellipsoid selection along the three axis planes
+ */
+public final class EllipsoidGeometry {
+
+    private static final double TAU = Math.PI * 2.0;
+    private static final int[] NO_OFFSETS = new int[0];
+
+    private EllipsoidGeometry() {
+    }
+
+    /**
+     * Plane a slice lies in; the slice offset is along the remaining axis
+     */
+    public enum Plane {
+        XZ, YZ, XY
+    }
+
+    public static int gridStep(double radius, int division, int maxSpacing) {
+        int step = Math.max(1, (int) (radius / division));
+        if (maxSpacing != -1) step = Math.min(step, maxSpacing);
+        return step;
+    }
+
+    public static int ellipseSegments(double r1, double r2, SegmentSettings segments) {
+        double a = Math.max(r1, r2);
+        double b = Math.min(r1, r2);
+        double h = Math.pow((a - b) / (a + b), 2);
+        // Ramanujan's approximation
+        double circumference = Math.PI * (a + b) * (1 + (3 * h) / (10 + Math.sqrt(4 - 3 * h)));
+
+        int segByLength = (int) Math.ceil(circumference / segments.targetLength());
+        int segByRadius = (int) (segments.minSegments() + segments.sqrtScale() * Math.sqrt((r1 + r2) / 2));
+        return segments.clamp(Math.max(segByLength, segByRadius));
+    }
+
+    /**
+     * Offsets of the non-center slices along an axis with the given radius;
+     * empty when the radius is too small to slice
+     */
+    public static int[] sliceOffsets(float radius, int step) {
+        if (radius < 0.5) return NO_OFFSETS;
+
+        int rad = (int) Math.floor(radius);
+        int[] offsets = new int[(2 * rad + step - 1) / step];
+        int count = 0;
+        for (int offset = -rad; offset < rad; offset += step) {
+            if (offset == 0) continue;
+            offsets[count++] = offset;
+        }
+        return count == offsets.length ? offsets : Arrays.copyOf(offsets, count);
+    }
+
+    /**
+     * One ellipse slice, offset from the center along the plane's normal axis
+     */
+    public static List<Line> slice(Plane plane, Vector3f center, float rx, float ry, float rz, int offset,
+                                   SegmentSettings segmentSettings) {
+        float normalRadius = switch (plane) {
+            case XZ -> ry;
+            case YZ -> rx;
+            case XY -> rz;
+        };
+        double scale = (normalRadius < 0.01) ? 1 : Math.sqrt(1 - Math.pow(offset / normalRadius, 2));
+
+        // the two in-plane radii, in the order they are swept by cos / sin
+        float r1 = plane == Plane.YZ ? ry : rx;
+        float r2 = plane == Plane.XY ? ry : rz;
+        int segments = ellipseSegments(r1 * scale, r2 * scale, segmentSettings);
+
+        List<Line> lines = new ArrayList<>(segments);
+        for (int i = 0; i < segments; i++) {
+            double t1 = i * TAU / segments, t2 = (i + 1) * TAU / segments;
+            lines.add(new Line(point(plane, center, r1, r2, offset, t1, scale),
+                    point(plane, center, r1, r2, offset, t2, scale)));
+        }
+        return lines;
+    }
+
+    private static Vector3f point(Plane plane, Vector3f center, float r1, float r2, int offset, double t, double scale) {
+        float a = (float) (r1 * Math.cos(t) * scale);
+        float b = (float) (r2 * Math.sin(t) * scale);
+        return switch (plane) {
+            case XZ -> new Vector3f(center.x + a, center.y + offset, center.z + b);
+            case YZ -> new Vector3f(center.x + offset, center.y + a, center.z + b);
+            case XY -> new Vector3f(center.x + a, center.y + b, center.z + offset);
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package dev.twme.worldeditdisplay.display.geometry;
+
+import org.joml.Vector3f;
+
+/**
+ * A line segment in world coordinates, drawn as one display entity
+ */
+public record Line(Vector3f start, Vector3f end) {
+}
@@ -0,0 +1,50 @@
+package dev.twme.worldeditdisplay.display.geometry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joml.Vector3f;
+
+import dev.twme.worldeditdisplay.region.Vector2;
+
+/**
+ * Layer outlines and vertical edges of a polygon (poly2d) selection
+ */
+public final class PolygonGeometry {
+
+    private PolygonGeometry() {
+    }
+
+    public static int gridStep(int height, int division, int maxSpacing) {
+        int step = Math.max(1, height / division);
+        if (maxSpacing != -1) step = Math.min(step, maxSpacing);
+        return step;
+    }
+
+    /**
+     * Closed outline through the block centers of the points at height y
+     */
+    public static List<Line> outline(List<Vector2> points, int y) {
+        int size = points.size();
+        List<Line> lines = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Vector2 curr = points.get(i);
+            Vector2 next = points.get((i + 1) % size);
+            lines.add(new Line(new Vector3f(curr.getX() + 0.5f, y, curr.getZ() + 0.5f),
+                    new Vector3f(next.getX() + 0.5f, y, next.getZ() + 0.5f)));
+        }
+        return lines;
+    }
+
+    /**
+     * One vertical line per point, from minY to the top of maxY
+     */
+    public static List<Line> verticals(List<Vector2> points, int minY, int maxY) {
+        List<Line> lines = new ArrayList<>(points.size());
+        for (Vector2 point : points) {
+            lines.add(new Line(new Vector3f(point.getX() + 0.5f, minY, point.getZ() + 0.5f),
+                    new Vector3f(point.getX() + 0.5f, maxY + 1f, point.getZ() + 0.5f)));
+        }
+        return lines;
+    }
+}
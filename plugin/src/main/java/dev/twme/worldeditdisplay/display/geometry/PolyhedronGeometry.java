@@ -0,0 +1,52 @@
+package dev.twme.worldeditdisplay.display.geometry;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.joml.Vector3f;
+
+/**
+ * Edges of a polyhedron selection
+ */
+public final class PolyhedronGeometry {
+
+    private PolyhedronGeometry() {
+    }
+
+    /**
+     * Unique edges of the given faces; shared edges are drawn once
+     *
+     * @param vertices vertex positions, null entries are skipped
+     * @param faces vertex indices per face
+     */
+    public static List<Line> edges(List<Vector3f> vertices, List<int[]> faces) {
+        List<Line> lines = new ArrayList<>();
+        Set<Long> drawn = new HashSet<>();
+
+        for (int[] face : faces) {
+            if (face == null || face.length < 2) continue;
+
+            for (int i = 0; i < face.length; i++) {
+                int v1 = face[i];
+                int v2 = face[(i + 1) % face.length];
+
+                if (v1 < 0 || v1 >= vertices.size() || v2 < 0 || v2 >= vertices.size()) continue;
+                Vector3f start = vertices.get(v1);
+                Vector3f end = vertices.get(v2);
+                if (start == null || end == null) continue;
+
+                if (!drawn.add(edgeKey(v1, v2))) continue;
+                lines.add(new Line(start, end));
+            }
+        }
+        return lines;
+    }
+
+    private static long edgeKey(int i1, int i2) {
+        int min = Math.min(i1, i2);
+        int max = Math.max(i1, i2);
+        return ((long) min << 32) | (max & 0xFFFFFFFFL);
+    }
+}
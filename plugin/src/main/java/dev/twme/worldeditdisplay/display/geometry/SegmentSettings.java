@@ -0,0 +1,16 @@
+package dev.twme.worldeditdisplay.display.geometry;
+
+/**
+ * Settings that decide how many segments a circle or ellipse is split into
+ *
+ * @param targetLength preferred length of one segment in blocks
+ * @param minSegments lower bound
+ * @param maxSegments upper bound
+ * @param sqrtScale extra segments per sqrt(radius)
+ */
+public record SegmentSettings(double targetLength, int minSegments, int maxSegments, double sqrtScale) {
+
+    public int clamp(int segments) {
+        return Math.max(minSegments, Math.min(segments, maxSegments));
+    }
+}
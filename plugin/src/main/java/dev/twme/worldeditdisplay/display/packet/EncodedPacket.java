@@ -0,0 +1,71 @@
+package dev.twme.worldeditdisplay.display.packet;
+
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+
+/**
+ * A packet body serialized once and copied into every send.
+ *
+ * The body is written with the server version like any outgoing wrapper,
+ * so one encoding serves all viewers; the packet id is still resolved per
+ * connection when it is sent. Each send needs its own wrapper, get one
+ * from {@link #toPacket()}.
+ */
+public final class EncodedPacket {
+
+    private final PacketTypeCommon type;
+    private final byte[] body;
+
+    private EncodedPacket(PacketTypeCommon type, byte[] body) {
+        this.type = type;
+        this.body = body;
+    }
+
+    /**
+     * Serialize a packet's body; the packet itself can still be sent afterwards
+     */
+    public static EncodedPacket encode(PacketWrapper<?> packet) {
+        Object buffer = UnpooledByteBufAllocationHelper.buffer();
+        try {
+            packet.setBuffer(buffer);
+            packet.write();
+            byte[] body = packet.readBytes(ByteBufHelper.readableBytes(buffer));
+            return new EncodedPacket(packet.getPacketTypeData().getPacketType(), body);
+        } finally {
+            ByteBufHelper.release(buffer);
+            packet.setBuffer(null);
+        }
+    }
+
+    /**
+     * A fresh wrapper that writes the cached body
+     */
+    public PacketWrapper<?> toPacket() {
+        return new Wrapper(type, body);
+    }
+
+    public PacketTypeCommon getType() {
+        return type;
+    }
+
+    public int size() {
+        return body.length;
+    }
+
+    private static final class Wrapper extends PacketWrapper<Wrapper> {
+
+        private final byte[] body;
+
+        Wrapper(PacketTypeCommon type, byte[] body) {
+            super(type);
+            this.body = body;
+        }
+
+        @Override
+        public void write() {
+            writeBytes(body);
+        }
+    }
+}
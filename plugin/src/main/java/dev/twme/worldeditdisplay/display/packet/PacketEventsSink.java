@@ -0,0 +1,57 @@
+package dev.twme.worldeditdisplay.display.packet;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.bukkit.entity.Player;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+
+/**
+ * Sends packets straight to the player's connection through PacketEvents.
+ *
+ * Writability comes from the Netty channel PacketEvents hands out; the
+ * channel type is not on the compile classpath, so isWritable() is looked
+ * up once per channel class.
+ */
+public final class PacketEventsSink implements PacketSink {
+
+    public static final PacketEventsSink INSTANCE = new PacketEventsSink();
+
+    private static final ClassValue<MethodHandle> IS_WRITABLE = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.publicLookup().findVirtual(type, "isWritable", MethodType.methodType(boolean.class));
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+    };
+
+    private PacketEventsSink() {
+    }
+
+    @Override
+    public void send(Player viewer, PacketWrapper<?> packet) {
+        // renderers are cleared after quit too, the connection is gone by then
+        if (!viewer.isOnline()) return;
+        PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, packet);
+    }
+
+    @Override
+    public boolean isWritable(Player viewer) {
+        Object channel = PacketEvents.getAPI().getPlayerManager().getChannel(viewer);
+        if (channel == null) return true;
+
+        MethodHandle isWritable = IS_WRITABLE.get(channel.getClass());
+        if (isWritable == null) return true;
+        try {
+            return (boolean) isWritable.invoke(channel);
+        } catch (Throwable e) {
+            return true;
+        }
+    }
+}
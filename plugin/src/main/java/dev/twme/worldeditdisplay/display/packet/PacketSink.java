@@ -0,0 +1,45 @@
+package dev.twme.worldeditdisplay.display.packet;
+
+import java.util.Collection;
+
+import org.bukkit.entity.Player;
+
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+
+/**
+ * Destination for the display entity packets a renderer emits.
+ *
+ * The live implementation writes to the player's connection; recording
+ * sinks let the render pipeline run without one and measure its output.
+ */
+public interface PacketSink {
+
+    /**
+     * Send one packet to the viewer
+     */
+    void send(Player viewer, PacketWrapper<?> packet);
+
+    /**
+     * Send one packet to several viewers; the packet is encoded once
+     */
+    default void send(Collection<Player> viewers, PacketWrapper<?> packet) {
+        send(viewers, EncodedPacket.encode(packet));
+    }
+
+    /**
+     * Send an already encoded packet to several viewers
+     */
+    default void send(Collection<Player> viewers, EncodedPacket packet) {
+        for (Player viewer : viewers) {
+            send(viewer, packet.toPacket());
+        }
+    }
+
+    /**
+     * Whether the viewer's connection can take more packets right now;
+     * renderers hold back primitives while this is false
+     */
+    default boolean isWritable(Player viewer) {
+        return true;
+    }
+}
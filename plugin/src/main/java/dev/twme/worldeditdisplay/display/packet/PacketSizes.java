@@ -0,0 +1,42 @@
+package dev.twme.worldeditdisplay.display.packet;
+
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+
+/**
+ * Measures the encoded size of packets
+ */
+public final class PacketSizes {
+
+    // the play packet ids used for display entities all fit in one varint byte
+    private static final int PACKET_ID_BYTES = 1;
+
+    private PacketSizes() {
+    }
+
+    /**
+     * Encode the packet into a scratch buffer and return its size in bytes,
+     * excluding compression and the length prefix.
+     * This costs a full encode, so it is only used when bytes are measured.
+     */
+    public static int serializedSize(PacketWrapper<?> packet) {
+        Object buffer = UnpooledByteBufAllocationHelper.buffer();
+        try {
+            packet.setBuffer(buffer);
+            packet.write();
+            return PACKET_ID_BYTES + ByteBufHelper.readableBytes(buffer);
+        } finally {
+            ByteBufHelper.release(buffer);
+            // let the real send allocate its own buffer
+            packet.setBuffer(null);
+        }
+    }
+
+    /**
+     * Size of an already encoded packet, counted the same way
+     */
+    public static int serializedSize(EncodedPacket packet) {
+        return PACKET_ID_BYTES + packet.size();
+    }
+}
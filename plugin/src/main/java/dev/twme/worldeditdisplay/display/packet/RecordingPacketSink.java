@@ -0,0 +1,89 @@
+package dev.twme.worldeditdisplay.display.packet;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bukkit.entity.Player;
+
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+
+/**
+ * Counts packets and encoded bytes per packet type, optionally forwarding
+ * to another sink. With no delegate the render pipeline can be driven
+ * without a live connection, e.g. for load tests and render cost checks.
+ */
+public class RecordingPacketSink implements PacketSink {
+
+    private final PacketSink delegate;
+    private final boolean measureBytes;
+
+    private final LongAdder packets = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final Map<String, LongAdder> packetsByType = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate sink to forward to, or null to drop packets after counting
+     * @param measureBytes encode every packet to count bytes
+     */
+    public RecordingPacketSink(PacketSink delegate, boolean measureBytes) {
+        this.delegate = delegate;
+        this.measureBytes = measureBytes;
+    }
+
+    @Override
+    public void send(Player viewer, PacketWrapper<?> packet) {
+        record(packet.getPacketTypeData().getPacketType(), 1);
+        if (measureBytes) bytes.add(PacketSizes.serializedSize(packet));
+
+        if (delegate != null) delegate.send(viewer, packet);
+    }
+
+    /**
+     * Count a shared packet once per viewer, using the size it was encoded to
+     */
+    @Override
+    public void send(Collection<Player> viewers, EncodedPacket packet) {
+        int count = viewers.size();
+        record(packet.getType(), count);
+        if (measureBytes) bytes.add((long) PacketSizes.serializedSize(packet) * count);
+
+        if (delegate != null) delegate.send(viewers, packet);
+    }
+
+    private void record(PacketTypeCommon type, int count) {
+        packets.add(count);
+        packetsByType.computeIfAbsent(type.getName(), k -> new LongAdder()).add(count);
+    }
+
+    @Override
+    public boolean isWritable(Player viewer) {
+        return delegate == null || delegate.isWritable(viewer);
+    }
+
+    public long getPackets() {
+        return packets.sum();
+    }
+
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * Packet counts keyed by packet type name, sorted by name
+     */
+    public Map<String, Long> getPacketsByType() {
+        Map<String, Long> result = new TreeMap<>();
+        packetsByType.forEach((type, count) -> result.put(type, count.sum()));
+        return result;
+    }
+
+    public void reset() {
+        packets.reset();
+        bytes.reset();
+        packetsByType.clear();
+    }
+}
@@ -0,0 +1,173 @@
+package dev.twme.worldeditdisplay.display.renderer;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.joml.Matrix3f;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.config.PlayerRenderSettings;
+import dev.twme.worldeditdisplay.display.geometry.CuboidGeometry;
+import dev.twme.worldeditdisplay.region.BoundingBox;
+import dev.twme.worldeditdisplay.region.CuboidRegion;
+import dev.twme.worldeditdisplay.region.Vector3;
+import dev.twme.worldeditdisplay.resourcepack.GridResourcePack;
+
+/**
+ * Renders WorldEdit-style cuboid selections.
+ * Shows edges, grid on faces, and point markers. In face mode the grid is
+ * drawn with striped models from the generated resource pack.
+ */
+public class CuboidRenderer extends RegionRenderer<CuboidRegion> {
+
+    private boolean renderGrid = true;
+    private boolean renderBox = true;
+
+    public CuboidRenderer(WorldEditDisplay plugin, Player player, PlayerRenderSettings settings) {
+        super(plugin, player, settings);
+    }
+
+    @Override
+    protected void draw(CuboidRegion region) {
+        boolean isMultiSelection = isMultiSelection(region);
+        Vector3 point1 = region.getPoint1();
+        Vector3 point2 = region.getPoint2();
+
+        if (point1 == null && point2 == null) return; // nothing to render
+
+        // determine materials
+        Material point1Material = getMaterialWithOverride(region, 2, resolved.cuboidPoint1Material(), isMultiSelection);
+        Material point2Material = getMaterialWithOverride(region, 3, resolved.cuboidPoint2Material(), isMultiSelection);
+        Material boxMaterial = getMaterialWithOverride(region, 0, resolved.cuboidEdgeMaterial(), isMultiSelection);
+        Material gridMaterial = getMaterialWithOverride(region, 1, resolved.cuboidGridMaterial(), isMultiSelection);
+
+        // draw point markers
+        if (point1 != null) renderPointMarker(point1, point1Material, resolved.cuboidEdgeThickness());
+        if (point2 != null) renderPointMarker(point2, point2Material, resolved.cuboidEdgeThickness());
+
+        if (!region.isDefined()) return; // need both points for box/grid
+
+        BoundingBox regionBox = region.getBoundingBox();
+        if (regionBox == null) return;
+
+        Vector3 min = regionBox.getMin();
+        Vector3 max = regionBox.getMax();
+
+        // extend max coordinates by 1 to fully encompass blocks
+        double minX = min.getX();
+        double minY = min.getY();
+        double minZ = min.getZ();
+        double maxX = max.getX() + 1.0;
+        double maxY = max.getY() + 1.0;
+        double maxZ = max.getZ() + 1.0;
+
+        if (renderBox) renderBoxFrame(minX, minY, minZ, maxX, maxY, maxZ, boxMaterial, resolved.cuboidEdgeThickness());
+        if (renderGrid) renderGrid(minX, minY, minZ, maxX, maxY, maxZ, region, gridMaterial);
+    }
+
+    /** Draws a grid on the six faces of the cuboid */
+    private void renderGrid(double x1, double y1, double z1, double x2, double y2, double z2,
+                            CuboidRegion region, Material gridMaterial) {
+
+        double gridSpacing = region.getGridSpacing();
+
+        double spacingX, spacingY, spacingZ;
+
+        if (gridSpacing > 0) {
+            spacingX = spacingY = spacingZ = gridSpacing;
+        } else {
+            int gridDivision = resolved.cuboidHeightGridDivision();
+            int maxGridSpacing = resolved.cuboidMaxGridSpacing();
+
+            spacingX = CuboidGeometry.gridSpacing(x2 - x1, gridDivision, maxGridSpacing);
+            spacingY = CuboidGeometry.gridSpacing(y2 - y1, gridDivision, maxGridSpacing);
+            spacingZ = CuboidGeometry.gridSpacing(z2 - z1, gridDivision, maxGridSpacing);
+        }
+
+        GridResourcePack pack = config.getGridPack();
+        if (pack != null
+                && renderGridFaces(pack, x1, y1, z1, x2, y2, z2, spacingX, spacingY, spacingZ,
+                        resolved.cuboidGridThickness(), gridMaterial)) {
+            return;
+        }
+
+        renderLines(gridMaterial, resolved.cuboidGridThickness(),
+                CuboidGeometry.grid(x1, y1, z1, x2, y2, z2, spacingX, spacingY, spacingZ));
+    }
+
+    /**
+     * Draws the grid with one striped plane per face and direction instead of
+     * one entity per line; the box edges stand in for the outer grid lines
+     *
+     * @return false when a face has more cells than the resource pack covers,
+     *         or no stripe width of the pack comes close to the grid thickness
+     */
+    private boolean renderGridFaces(GridResourcePack pack, double x1, double y1, double z1, double x2, double y2, double z2,
+                                    double spacingX, double spacingY, double spacingZ, float thickness, Material gridMaterial) {
+        int linesX = CuboidGeometry.innerLines(x2 - x1, spacingX);
+        int linesY = CuboidGeometry.innerLines(y2 - y1, spacingY);
+        int linesZ = CuboidGeometry.innerLines(z2 - z1, spacingZ);
+        if (Math.max(linesX, Math.max(linesY, linesZ)) + 1 > pack.getMaxCells()) return false;
+
+        // stripes scale with the spacing, so each direction picks its own width
+        int stripesX = linesX > 0 ? pack.stripeWidth(spacingX, thickness) : 0;
+        int stripesY = linesY > 0 ? pack.stripeWidth(spacingY, thickness) : 0;
+        int stripesZ = linesZ > 0 ? pack.stripeWidth(spacingZ, thickness) : 0;
+        if (stripesX < 0 || stripesY < 0 || stripesZ < 0) return false;
+
+        Vector3f unitX = new Vector3f(1, 0, 0), unitY = new Vector3f(0, 1, 0), unitZ = new Vector3f(0, 0, 1);
+        float sizeX = (float) (x2 - x1), sizeY = (float) (y2 - y1), sizeZ = (float) (z2 - z1);
+
+        for (double y : new double[] {y1, y2}) {
+            Vector3f origin = new Vector3f((float) x1, (float) y, (float) z1);
+            renderStripes(pack, origin, unitX, unitZ, (float) spacingX, linesX, stripesX, sizeZ, gridMaterial);
+            renderStripes(pack, origin, unitZ, unitX, (float) spacingZ, linesZ, stripesZ, sizeX, gridMaterial);
+        }
+        for (double z : new double[] {z1, z2}) {
+            Vector3f origin = new Vector3f((float) x1, (float) y1, (float) z);
+            renderStripes(pack, origin, unitX, unitY, (float) spacingX, linesX, stripesX, sizeY, gridMaterial);
+            renderStripes(pack, origin, unitY, unitX, (float) spacingY, linesY, stripesY, sizeX, gridMaterial);
+        }
+        for (double x : new double[] {x1, x2}) {
+            Vector3f origin = new Vector3f((float) x, (float) y1, (float) z1);
+            renderStripes(pack, origin, unitY, unitZ, (float) spacingY, linesY, stripesY, sizeZ, gridMaterial);
+            renderStripes(pack, origin, unitZ, unitY, (float) spacingZ, linesZ, stripesZ, sizeY, gridMaterial);
+        }
+        return true;
+    }
+
+    /**
+     * One plane with lines running along {@code along}, spaced by spacing
+     * across the face from origin. The plane spans lines + 1 whole cells and
+     * may reach past the face, where its model has no stripes.
+     */
+    private void renderStripes(GridResourcePack pack, Vector3f origin, Vector3f across, Vector3f along,
+                               float spacing, int lines, int stripeWidth, float length, Material material) {
+        if (lines == 0) return;
+        int cells = lines + 1;
+        float width = cells * spacing;
+
+        Vector3f center = new Vector3f(origin)
+                .fma(width / 2, across)
+                .fma(length / 2, along);
+        // model x runs across the stripes and model y along them
+        Matrix3f basis = new Matrix3f(across, along, new Vector3f(across).cross(along));
+        Quaternionf rotation = new Quaternionf().setFromNormalized(basis);
+
+        renderPlane(center, rotation, width, length, pack.item(cells, stripeWidth, material));
+    }
+
+    public void setRenderGrid(boolean render) {
+        this.renderGrid = render;
+    }
+
+    public void setRenderBox(boolean render) {
+        this.renderBox = render;
+    }
+
+    @Override
+    public Class<CuboidRegion> getRegionType() {
+        return CuboidRegion.class;
+    }
+}
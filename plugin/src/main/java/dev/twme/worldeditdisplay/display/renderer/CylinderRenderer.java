@@ -0,0 +1,132 @@
+package dev.twme.worldeditdisplay.display.renderer;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.config.PlayerRenderSettings;
+import dev.twme.worldeditdisplay.display.geometry.CylinderGeometry;
+import dev.twme.worldeditdisplay.display.geometry.SegmentSettings;
+import dev.twme.worldeditdisplay.region.CylinderRegion;
+import dev.twme.worldeditdisplay.region.Vector3;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.joml.Vector3f;
+
+/**
+ * Renders cylinder-shaped selections.
+ * Shows circles at each Y layer, vertical grid lines, and a center cube.
+ */
+public class CylinderRenderer extends RegionRenderer<CylinderRegion> {
+
+    public CylinderRenderer(WorldEditDisplay plugin, Player player, PlayerRenderSettings settings) {
+        super(plugin, player, settings);
+    }
+
+    @Override
+    protected void draw(CylinderRegion region) {
+        boolean isMulti = isMultiSelection(region);
+        Vector3 center = region.getCenter();
+        if (center == null) return;
+
+        double radiusX = region.getRadiusX();
+        double radiusZ = region.getRadiusZ();
+        int minY = region.getMinY();
+        int maxY = region.getMaxY();
+
+        double cxCircle = center.getX() + 0.5;
+        double czCircle = center.getZ() + 0.5;
+
+        Material circleMat = getMaterialWithOverride(region, 0, resolved.cylinderCircleMaterial(), isMulti);
+        Material gridMat = getMaterialWithOverride(region, 1, resolved.cylinderGridMaterial(), isMulti);
+        Material centerMat = getMaterialWithOverride(region, 2, resolved.cylinderCenterMaterial(), isMulti);
+        Material centerLineMat = resolved.cylinderCenterLineMaterial();
+
+        // If both radii are zero, just render the center cube
+        if (radiusX == 0 && radiusZ == 0) {
+            renderCube(new Vector3f((float)(center.getX() + 0.5),
+                            (float)(center.getY() + 0.5),
+                            (float)(center.getZ() + 0.5)),
+                    1.03f, centerMat, resolved.cylinderCenterThickness());
+            return;
+        }
+
+        // If one radius is zero, render as a rectangular grid
+        if (radiusX == 0 || radiusZ == 0) {
+            renderRectangularGrid(cxCircle, czCircle, radiusX, radiusZ, minY, maxY, gridMat, centerLineMat);
+            renderCube(new Vector3f((float)(center.getX() + 0.5),
+                            (float)(center.getY() + 0.5),
+                            (float)(center.getZ() + 0.5)),
+                    1.03f, centerMat, resolved.cylinderCenterThickness());
+            return;
+        }
+
+        int height = maxY - minY + 1;
+        int stepY = calculateGridStep(height);
+
+        // Render circles for each layer
+        for (int y = minY; y <= maxY + 1; y += stepY) {
+            if (y == center.getY() || y == center.getY() + 1) continue;
+            renderCircle(cxCircle, y, czCircle, radiusX, radiusZ, circleMat, resolved.cylinderCircleThickness());
+        }
+
+        // Ensure top layer is rendered
+        if ((maxY + 1 - minY) % stepY != 0) {
+            renderCircle(cxCircle, maxY + 1, czCircle, radiusX, radiusZ, circleMat, resolved.cylinderCircleThickness());
+        }
+
+        // Render center circle lines
+        renderCircle(cxCircle, center.getY(), czCircle, radiusX, radiusZ, centerLineMat, resolved.cylinderCenterLineThickness());
+        if (center.getY() + 1 != center.getY()) {
+            renderCircle(cxCircle, center.getY() + 1, czCircle, radiusX, radiusZ, centerLineMat, resolved.cylinderCenterLineThickness());
+        }
+
+        // Render vertical grid lines
+        renderGrid(cxCircle, czCircle, radiusX, radiusZ, minY, maxY + 1, gridMat, centerLineMat);
+
+        // Render center cube
+        renderCube(new Vector3f((float)(center.getX() + 0.5),
+                        (float)(center.getY() + 0.5),
+                        (float)(center.getZ() + 0.5)),
+                1.03f, centerMat, resolved.cylinderCenterThickness());
+    }
+
+    private void renderRectangularGrid(double centerX, double centerZ,
+                                       double radiusX, double radiusZ,
+                                       int minY, int maxY,
+                                       Material gridMat, Material centerLineMat) {
+        int stepY = calculateGridStep(maxY - minY + 1);
+        renderGridLines(CylinderGeometry.flatGrid(centerX, centerZ, radiusX, radiusZ, minY, maxY, stepY),
+                gridMat, centerLineMat);
+    }
+
+    private int calculateGridStep(int height) {
+        return CylinderGeometry.gridStep(height, resolved.cylinderHeightGridDivision(), resolved.cylinderMaxGridSpacing());
+    }
+
+    private void renderCircle(double cx, double y, double cz,
+                              double radiusX, double radiusZ,
+                              Material mat, float thickness) {
+        SegmentSettings segmentSettings = new SegmentSettings(resolved.cylinderTargetSegmentLength(),
+                resolved.cylinderMinCircleSegments(), resolved.cylinderMaxCircleSegments(), resolved.cylinderSqrtScaleFactor());
+        int segments = CylinderGeometry.circleSegments(radiusX, radiusZ, segmentSettings);
+        renderLines(mat, thickness, CylinderGeometry.circle(cx, y, cz, radiusX, radiusZ, segments));
+    }
+
+    private void renderGrid(double centerX, double centerZ,
+                            double radiusX, double radiusZ,
+                            int minY, int maxY,
+                            Material gridMat, Material centerLineMat) {
+        int xStep = CylinderGeometry.radiusGridStep(radiusX, resolved.cylinderRadiusGridDivision(), resolved.cylinderMaxGridSpacing());
+        int zStep = CylinderGeometry.radiusGridStep(radiusZ, resolved.cylinderRadiusGridDivision(), resolved.cylinderMaxGridSpacing());
+        renderGridLines(CylinderGeometry.wallGrid(centerX, centerZ, radiusX, radiusZ, minY, maxY, xStep, zStep),
+                gridMat, centerLineMat);
+    }
+
+    private void renderGridLines(CylinderGeometry.Grid grid, Material gridMat, Material centerLineMat) {
+        renderLines(gridMat, resolved.cylinderGridThickness(), grid.grid());
+        renderLines(centerLineMat, resolved.cylinderCenterLineThickness(), grid.center());
+    }
+
+    @Override
+    public Class<CylinderRegion> getRegionType() {
+        return CylinderRegion.class;
+    }
+}
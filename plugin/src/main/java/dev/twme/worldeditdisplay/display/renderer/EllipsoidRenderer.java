@@ -0,0 +1,76 @@
+package dev.twme.worldeditdisplay.display.renderer;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+
+import dev.twme.worldeditdisplay.config.PlayerRenderSettings;
+import dev.twme.worldeditdisplay.display.geometry.EllipsoidGeometry;
+import dev.twme.worldeditdisplay.display.geometry.EllipsoidGeometry.Plane;
+import dev.twme.worldeditdisplay.display.geometry.SegmentSettings;
+import dev.twme.worldeditdisplay.region.EllipsoidRegion;
+import dev.twme.worldeditdisplay.region.Vector3;
+
+import org.joml.Vector3f;
+
+public class EllipsoidRenderer extends RegionRenderer<EllipsoidRegion> {
+
+    public EllipsoidRenderer(WorldEditDisplay plugin, Player player, PlayerRenderSettings settings) {
+        super(plugin, player, settings);
+    }
+
+    @Override
+    protected void draw(EllipsoidRegion region) {
+        if (!region.isDefined()) return;
+
+        Vector3 center = region.getCenter();
+        Vector3 radii = region.getRadii();
+
+        Vector3f centerPos = new Vector3f(
+                (float) center.getX() + 0.5f,
+                (float) center.getY() + 0.5f,
+                (float) center.getZ() + 0.5f
+        );
+
+        boolean multi = isMultiSelection(region);
+
+        Material lineMat = getMaterialWithOverride(region, 0, resolved.ellipsoidLineMaterial(), multi);
+        Material centerMat = getMaterialWithOverride(region, 2, resolved.ellipsoidCenterMaterial(), multi);
+        Material centerLineMat = resolved.ellipsoidCenterLineMaterial();
+
+        renderCube(centerPos, resolved.ellipsoidCenterMarkerSize(), centerMat, resolved.ellipsoidCenterThickness());
+
+        int xStep = calculateGridStep(radii.getX());
+        int yStep = calculateGridStep(radii.getY());
+        int zStep = calculateGridStep(radii.getZ());
+
+        float rx = (float) radii.getX();
+        float ry = (float) radii.getY();
+        float rz = (float) radii.getZ();
+        SegmentSettings segmentSettings = new SegmentSettings(resolved.ellipsoidTargetSegmentLength(),
+                resolved.ellipsoidMinSegments(), resolved.ellipsoidMaxSegments(), resolved.ellipsoidSqrtScaleFactor());
+
+        renderPlane(Plane.XZ, centerPos, rx, ry, rz, EllipsoidGeometry.sliceOffsets(ry, yStep), segmentSettings, lineMat, centerLineMat);
+        renderPlane(Plane.YZ, centerPos, rx, ry, rz, EllipsoidGeometry.sliceOffsets(rx, xStep), segmentSettings, lineMat, centerLineMat);
+        renderPlane(Plane.XY, centerPos, rx, ry, rz, EllipsoidGeometry.sliceOffsets(rz, zStep), segmentSettings, lineMat, centerLineMat);
+    }
+
+    private int calculateGridStep(double radius) {
+        return EllipsoidGeometry.gridStep(radius, resolved.ellipsoidRadiusGridDivision(), resolved.ellipsoidMaxGridSpacing());
+    }
+
+    private void renderPlane(Plane plane, Vector3f center, float rx, float ry, float rz, int[] offsets,
+                             SegmentSettings segmentSettings, Material mat, Material centerLine) {
+        for (int offset : offsets) {
+            renderLines(mat, resolved.ellipsoidLineThickness(),
+                    EllipsoidGeometry.slice(plane, center, rx, ry, rz, offset, segmentSettings));
+        }
+        renderLines(centerLine, resolved.ellipsoidCenterLineThickness(),
+                EllipsoidGeometry.slice(plane, center, rx, ry, rz, 0, segmentSettings));
+    }
+
+    @Override
+    public Class<EllipsoidRegion> getRegionType() {
+        return EllipsoidRegion.class;
+    }
+}
\ No newline at end of file
@@ -4,10 +4,10 @@ import java.util.List;
 
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.joml.Vector3f;
 
 import dev.twme.worldeditdisplay.WorldEditDisplay;
 import dev.twme.worldeditdisplay.config.PlayerRenderSettings;
+import dev.twme.worldeditdisplay.display.geometry.PolygonGeometry;
 import dev.twme.worldeditdisplay.region.PolygonRegion;
 import dev.twme.worldeditdisplay.region.Vector2;
 
@@ -18,9 +18,7 @@ public class PolygonRenderer extends RegionRenderer<PolygonRegion> {
     }
 
     @Override
-    public void render(PolygonRegion region) {
-        clear();
-
+    protected void draw(PolygonRegion region) {
         if (!region.isDefined()) return;
 
         boolean multi = isMultiSelection(region);
@@ -34,7 +32,7 @@ public class PolygonRenderer extends RegionRenderer<PolygonRegion> {
         int maxY = region.getMaxY();
 
         if (points.size() == 1) {
-            Material vertexMat = getMaterialWithOverride(region, 2, settings.getPolygonVertexMaterial(), multi);
+            Material vertexMat = getMaterialWithOverride(region, 2, resolved.polygonVertexMaterial(), multi);
             renderVertexMarkers(points, minY, maxY, vertexMat);
             return;
         }
@@ -42,16 +40,16 @@ public class PolygonRenderer extends RegionRenderer<PolygonRegion> {
         int height = maxY - minY + 1;
         int step = calculateGridStep(height);
 
-        Material edgeMat = getMaterialWithOverride(region, 0, settings.getPolygonEdgeMaterial(), multi);
-        Material verticalMat = settings.getPolygonVerticalMaterial();
-        Material vertexMat = getMaterialWithOverride(region, 2, settings.getPolygonVertexMaterial(), multi);
+        Material edgeMat = getMaterialWithOverride(region, 0, resolved.polygonEdgeMaterial(), multi);
+        Material verticalMat = resolved.polygonVerticalMaterial();
+        Material vertexMat = getMaterialWithOverride(region, 2, resolved.polygonVertexMaterial(), multi);
 
         // Render horizontal edges
         for (int y = minY; y <= maxY + 1; y += step) {
-            renderPolygonEdges(points, y, edgeMat, settings.getPolygonEdgeThickness());
+            renderPolygonEdges(points, y, edgeMat, resolved.polygonEdgeThickness());
         }
         if ((maxY + 1 - minY) % step != 0) {
-            renderPolygonEdges(points, maxY + 1, edgeMat, settings.getPolygonEdgeThickness());
+            renderPolygonEdges(points, maxY + 1, edgeMat, resolved.polygonEdgeThickness());
         }
 
         // Render vertical edges
@@ -62,30 +60,15 @@ public class PolygonRenderer extends RegionRenderer<PolygonRegion> {
     }
 
     private int calculateGridStep(int height) {
-        int step = Math.max(1, height / settings.getPolygonHeightGridDivision());
-        if (settings.getPolygonMaxGridSpacing() != -1) step = Math.min(step, settings.getPolygonMaxGridSpacing());
-        return step;
+        return PolygonGeometry.gridStep(height, resolved.polygonHeightGridDivision(), resolved.polygonMaxGridSpacing());
     }
 
     private void renderPolygonEdges(List<Vector2> points, int y, Material mat, float thickness) {
-        int size = points.size();
-        for (int i = 0; i < size; i++) {
-            Vector2 curr = points.get(i);
-            Vector2 next = points.get((i + 1) % size);
-
-            Vector3f start = new Vector3f(curr.getX() + 0.5f, y, curr.getZ() + 0.5f);
-            Vector3f end = new Vector3f(next.getX() + 0.5f, y, next.getZ() + 0.5f);
-
-            renderLine(new Line(start, end), mat, thickness);
-        }
+        renderLines(mat, thickness, PolygonGeometry.outline(points, y));
     }
 
     private void renderVerticalEdges(List<Vector2> points, int minY, int maxY, Material mat) {
-        for (Vector2 point : points) {
-            Vector3f start = new Vector3f(point.getX() + 0.5f, minY, point.getZ() + 0.5f);
-            Vector3f end = new Vector3f(point.getX() + 0.5f, maxY + 1f, point.getZ() + 0.5f);
-            renderLine(new Line(start, end), mat, settings.getPolygonVerticalThickness());
-        }
+        renderLines(mat, resolved.polygonVerticalThickness(), PolygonGeometry.verticals(points, minY, maxY));
     }
 
     private void renderVertexMarkers(List<Vector2> points, int minY, int maxY, Material mat) {
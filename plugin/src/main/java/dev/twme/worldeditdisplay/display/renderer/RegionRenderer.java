@@ -0,0 +1,864 @@
+package dev.twme.worldeditdisplay.display.renderer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import com.github.retrooper.packetevents.protocol.entity.data.EntityData;
+import com.github.retrooper.packetevents.protocol.entity.type.EntityType;
+import com.github.retrooper.packetevents.protocol.entity.type.EntityTypes;
+import com.github.retrooper.packetevents.protocol.item.type.ItemType;
+import com.github.retrooper.packetevents.protocol.item.type.ItemTypes;
+import com.github.retrooper.packetevents.protocol.world.states.WrappedBlockState;
+import com.github.retrooper.packetevents.protocol.world.states.type.StateType;
+import com.github.retrooper.packetevents.protocol.world.states.type.StateTypes;
+import com.github.retrooper.packetevents.util.Quaternion4f;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerDestroyEntities;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityMetadata;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerSpawnEntity;
+
+import dev.twme.worldeditdisplay.config.PlayerRenderSettings;
+import dev.twme.worldeditdisplay.config.ResolvedRenderSettings;
+import dev.twme.worldeditdisplay.display.RenderQueue;
+import dev.twme.worldeditdisplay.display.geometry.BoxGeometry;
+import dev.twme.worldeditdisplay.display.geometry.Line;
+import dev.twme.worldeditdisplay.display.packet.EncodedPacket;
+import dev.twme.worldeditdisplay.display.packet.PacketEventsSink;
+import dev.twme.worldeditdisplay.display.packet.PacketSink;
+import dev.twme.worldeditdisplay.display.packet.PacketSizes;
+import dev.twme.worldeditdisplay.metrics.PacketFlushEvent;
+import dev.twme.worldeditdisplay.metrics.RenderPassEvent;
+import dev.twme.worldeditdisplay.metrics.RenderMetrics;
+import dev.twme.worldeditdisplay.metrics.RenderPhase;
+import dev.twme.worldeditdisplay.region.Region;
+import io.github.retrooper.packetevents.util.SpigotConversionUtil;
+import me.tofaa.entitylib.meta.display.AbstractDisplayMeta;
+import me.tofaa.entitylib.meta.display.BlockDisplayMeta;
+import me.tofaa.entitylib.meta.display.ItemDisplayMeta;
+import me.tofaa.entitylib.wrapper.WrapperEntity;
+import org.joml.Vector3f;
+
+/**
+ * Abstract base class for rendering regions.
+ *
+ * Line geometry comes from the Bukkit-free display.geometry package;
+ * renderers pick materials and thicknesses and turn lines into entities.
+ *
+ * Provides common rendering utilities:
+ * - entity pool management
+ * - packet emission through a PacketSink, nearest first and spread over
+ *   ticks by a RenderQueue for large passes
+ * - with several viewers, spawn and metadata packets encoded once per
+ *   primitive and copied to each viewer; viewers can join and leave
+ *   between passes without the entities being spawned again
+ * - transforms (scale, translate, rotate)
+ * - cleanup
+ *
+ * @param <T> the region type this renderer handles
+ */
+public abstract class RegionRenderer<T extends Region> {
+
+    // packet item of each material drawn as an ItemDisplay
+    private static final Map<Material, com.github.retrooper.packetevents.protocol.item.ItemStack> ITEMS = new ConcurrentHashMap<>();
+
+    protected final WorldEditDisplay plugin;
+    protected final Player player;
+    protected final UUID playerUUID;
+    protected final PlayerRenderSettings settings;
+
+    // settings snapshot for the current render pass, taken at its start
+    protected ResolvedRenderSettings resolved;
+
+    // pool of display entities
+    protected final List<WrapperEntity> entities;
+
+    protected RenderConfig config;
+
+    // time spent creating entities and sending packets in the current pass
+    private long emitNanos;
+
+    // where spawn, metadata and destroy packets go
+    private PacketSink packetSink = PacketEventsSink.INSTANCE;
+    private boolean measurePacketBytes;
+
+    // packets sent since the last flush was recorded
+    private int pendingPackets;
+    private long pendingBytes;
+
+    // spawn position and squared distance from the player of each pooled entity, same index as entities
+    private com.github.retrooper.packetevents.protocol.world.Location[] positions =
+            new com.github.retrooper.packetevents.protocol.world.Location[64];
+    private float[] distances = new float[64];
+
+    // indexes of the current pass in send order; those from unsentFrom on are not sent yet
+    private int[] sendOrder = new int[0];
+    private int unsentFrom;
+    private RenderQueue renderQueue;
+
+    // pool indexes the player has been sent
+    private final BitSet sent = new BitSet();
+
+    // sent entities whose metadata changed while the connection was saturated, latest state wins
+    private final Set<WrapperEntity> staleMeta = new LinkedHashSet<>();
+
+    // writability is checked once per this many entities
+    private static final int WRITABLE_CHECK_INTERVAL = 8;
+
+    // client side defaults of display metadata; entries equal to them are not sent
+    private static final float DEFAULT_VIEW_RANGE = 1.0f;
+    private static final float DEFAULT_SHADOW_RADIUS = 0.0f;
+    private static final float DEFAULT_SHADOW_STRENGTH = 1.0f;
+
+    // global block state id of each block material drawn as a BlockDisplay
+    private static final Map<Material, Integer> BLOCK_STATE_IDS = new ConcurrentHashMap<>();
+
+    // players receiving this renderer's packets, the owner first
+    protected final List<Player> viewers = new CopyOnWriteArrayList<>();
+
+    // spawn and metadata bodies per pool index, encoded once when there is more than one viewer
+    private EncodedPacket[] spawnCache = new EncodedPacket[64];
+    private EncodedPacket[] metaCache = new EncodedPacket[64];
+
+    /**
+     * Constructor
+     *
+     * @param plugin plugin instance
+     * @param player target player
+     * @param settings player render settings
+     */
+    public RegionRenderer(WorldEditDisplay plugin, Player player, PlayerRenderSettings settings) {
+        this.plugin = plugin;
+        this.player = player;
+        this.viewers.add(player);
+        this.playerUUID = player.getUniqueId();
+        this.settings = settings;
+        this.resolved = settings.resolve();
+        this.entities = new ArrayList<>();
+        this.config = RenderConfig.getDefault();
+    }
+
+    /**
+     * Render the given region: drop the previous entities, take a fresh
+     * settings snapshot and draw. Geometry and packet emit time are
+     * recorded separately.
+     */
+    public synchronized void render(T region) {
+        RenderPassEvent event = new RenderPassEvent();
+        event.begin();
+        int entitiesBefore = entities.size();
+
+        long start = System.nanoTime();
+        emitNanos = 0;
+
+        clear();
+        emitNanos += System.nanoTime() - start;
+
+        resolved = settings.resolve();
+        draw(region);
+
+        long emitStart = System.nanoTime();
+        int spawned = emitEntities();
+        emitNanos += System.nanoTime() - emitStart;
+
+        RenderMetrics metrics = plugin.getRenderMetrics();
+        if (metrics != null) {
+            long total = System.nanoTime() - start;
+            metrics.recordPhase(RenderPhase.GEOMETRY, total - emitNanos);
+            metrics.recordPhase(RenderPhase.PACKET_EMIT, emitNanos);
+            metrics.recordEntitiesSpawned(spawned);
+            metrics.recordRenderCompleted();
+        }
+        recordFlush();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.player = player.getName();
+            event.regionType = region.getType().getKey();
+            event.multi = isMultiSelection(region);
+            event.primitives = entities.size();
+            event.entityDelta = entities.size() - entitiesBefore;
+            event.commit();
+        }
+    }
+
+    /**
+     * Draw the region's lines; the entity pool is empty when this is called
+     */
+    protected abstract void draw(T region);
+
+    /**
+     * Get the type of region this renderer supports
+     */
+    public abstract Class<T> getRegionType();
+
+    /**
+     * Send the pass's entities. Large passes send the nearest ones now and
+     * leave the rest to the render queue; any pass stops early and leaves
+     * the rest to the queue while the player's connection is not writable.
+     *
+     * @return number of entities sent now
+     */
+    private int emitEntities() {
+        int count = entities.size();
+        boolean progressive = renderQueue != null && renderQueue.isEnabled() && count > renderQueue.getThreshold();
+        boolean backpressure = renderQueue != null && renderQueue.isBackpressureEnabled();
+        if (!progressive && !backpressure) {
+            for (int i = 0; i < count; i++) {
+                spawnForPlayer(i);
+            }
+            return count;
+        }
+
+        sendOrder = new int[count];
+        if (progressive) {
+            // distance bits in the high half, index in the low half; non-negative floats sort as ints
+            long[] order = new long[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = ((long) Float.floatToIntBits(distances[i]) << 32) | i;
+            }
+            Arrays.sort(order);
+            for (int i = 0; i < count; i++) {
+                sendOrder[i] = (int) order[i];
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                sendOrder[i] = i;
+            }
+        }
+
+        int limit = progressive ? Math.min(count, renderQueue.getInitialBatch()) : count;
+        unsentFrom = 0;
+        while (unsentFrom < limit) {
+            if (backpressure && unsentFrom % WRITABLE_CHECK_INTERVAL == 0 && !viewersWritable()) break;
+            spawnForPlayer(sendOrder[unsentFrom++]);
+        }
+        if (unsentFrom < count) renderQueue.schedule(this);
+        return unsentFrom;
+    }
+
+    private int unsentCount() {
+        return sendOrder.length - unsentFrom;
+    }
+
+    /**
+     * Send held back metadata, then up to max entities left over from the
+     * current pass; called by the render queue. Stops while the player's
+     * connection is not writable.
+     *
+     * @return number of entities sent or updated
+     */
+    public synchronized int emitPending(int max) {
+        boolean backpressure = renderQueue != null && renderQueue.isBackpressureEnabled();
+        int done = 0;
+
+        Iterator<WrapperEntity> stale = staleMeta.iterator();
+        while (done < max && stale.hasNext()) {
+            if (backpressure && done % WRITABLE_CHECK_INTERVAL == 0 && !viewersWritable()) break;
+            send(stale.next().getEntityMeta().createPacket());
+            stale.remove();
+            done++;
+        }
+        int updated = done;
+
+        while (done < max && unsentCount() > 0) {
+            if (backpressure && done % WRITABLE_CHECK_INTERVAL == 0 && !viewersWritable()) break;
+            spawnForPlayer(sendOrder[unsentFrom++]);
+            done++;
+        }
+
+        if (done > 0) {
+            RenderMetrics metrics = plugin.getRenderMetrics();
+            if (metrics != null) {
+                if (updated > 0) metrics.recordEntitiesUpdated(updated);
+                if (done > updated) metrics.recordEntitiesSpawned(done - updated);
+            }
+            recordFlush();
+        }
+        return done;
+    }
+
+    public synchronized boolean hasPending() {
+        return unsentCount() > 0 || !staleMeta.isEmpty();
+    }
+
+    /**
+     * Forget entities and updates that were never sent; unsent entities stay in the pool until the next clear
+     */
+    public synchronized void dropPending() {
+        unsentFrom = sendOrder.length;
+        staleMeta.clear();
+    }
+
+    /**
+     * Destroy everything the player was sent and empty the pool
+     */
+    public synchronized void clear() {
+        // the rest of a deferred pass is superseded and was never sent
+        if (unsentCount() > 0 || !staleMeta.isEmpty()) {
+            RenderMetrics metrics = plugin.getRenderMetrics();
+            if (metrics != null) metrics.recordRenderCoalesced();
+        }
+
+        int sentCount = sent.cardinality();
+        if (sentCount > 0) {
+            // one destroy packet for everything the player has seen
+            send(new WrapperPlayServerDestroyEntities(sentEntityIds()));
+
+            RenderMetrics metrics = plugin.getRenderMetrics();
+            if (metrics != null) metrics.recordEntitiesDestroyed(sentCount);
+        }
+
+        // entities were never registered with EntityLib, dropping them is enough
+        Arrays.fill(positions, 0, entities.size(), null);
+        Arrays.fill(spawnCache, 0, entities.size(), null);
+        Arrays.fill(metaCache, 0, entities.size(), null);
+        entities.clear();
+        sent.clear();
+        staleMeta.clear();
+        sendOrder = new int[0];
+        unsentFrom = 0;
+        recordFlush();
+    }
+
+    private int[] sentEntityIds() {
+        int[] entityIds = new int[sent.cardinality()];
+        int i = 0;
+        for (int index = sent.nextSetBit(0); index >= 0; index = sent.nextSetBit(index + 1)) {
+            entityIds[i++] = entities.get(index).getEntityId();
+        }
+        return entityIds;
+    }
+
+    /**
+     * Show this renderer's entities to another player as well. Entities
+     * already sent are replayed to the new viewer only, from the encoded
+     * caches; later passes go to every viewer.
+     */
+    public synchronized void addViewer(Player viewer) {
+        if (isViewer(viewer.getUniqueId())) return;
+        viewers.add(viewer);
+
+        List<Player> target = List.of(viewer);
+        for (int index = sent.nextSetBit(0); index >= 0; index = sent.nextSetBit(index + 1)) {
+            sendTo(target, encodedSpawn(index));
+            sendTo(target, encodedMeta(index));
+        }
+        recordFlush();
+    }
+
+    /**
+     * Stop showing this renderer's entities to a viewer; the owner cannot be removed
+     */
+    public synchronized void removeViewer(UUID viewerId) {
+        if (viewerId.equals(playerUUID)) return;
+        for (Player viewer : viewers) {
+            if (!viewer.getUniqueId().equals(viewerId)) continue;
+            viewers.remove(viewer);
+            if (!sent.isEmpty() && viewer.isOnline()) {
+                sendTo(List.of(viewer), EncodedPacket.encode(new WrapperPlayServerDestroyEntities(sentEntityIds())));
+                recordFlush();
+            }
+            return;
+        }
+    }
+
+    public boolean isViewer(UUID viewerId) {
+        for (Player viewer : viewers) {
+            if (viewer.getUniqueId().equals(viewerId)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Create a pooled display entity.
+     *
+     * The entity is not spawned through EntityLib: it never joins an entity
+     * container or the tick loop, its packets are built and sent by this
+     * renderer only.
+     */
+    protected WrapperEntity createEntity(EntityType entityType, Location location) {
+        WrapperEntity entity = new WrapperEntity(entityType);
+        int index = entities.size();
+        if (index == distances.length) {
+            distances = Arrays.copyOf(distances, index * 2);
+            positions = Arrays.copyOf(positions, index * 2);
+            spawnCache = Arrays.copyOf(spawnCache, index * 2);
+            metaCache = Arrays.copyOf(metaCache, index * 2);
+        }
+        distances[index] = 0f;
+        positions[index] = SpigotConversionUtil.fromBukkitLocation(location);
+        entities.add(entity);
+        return entity;
+    }
+
+    /**
+     * Send the spawn and metadata packets for a pooled entity to the player
+     */
+    private void spawnForPlayer(int index) {
+        if (viewers.size() == 1) {
+            send(spawnPacket(index));
+            send(entities.get(index).getEntityMeta().createPacket());
+        } else {
+            send(encodedSpawn(index));
+            send(encodedMeta(index));
+        }
+        sent.set(index);
+    }
+
+    private WrapperPlayServerSpawnEntity spawnPacket(int index) {
+        WrapperEntity entity = entities.get(index);
+        com.github.retrooper.packetevents.protocol.world.Location location = positions[index];
+        return new WrapperPlayServerSpawnEntity(entity.getEntityId(), Optional.of(entity.getUuid()), entity.getEntityType(),
+                location.getPosition(), location.getPitch(), location.getYaw(), location.getYaw(), 0, Optional.empty());
+    }
+
+    private EncodedPacket encodedSpawn(int index) {
+        EncodedPacket packet = spawnCache[index];
+        if (packet == null) {
+            packet = EncodedPacket.encode(spawnPacket(index));
+            spawnCache[index] = packet;
+        }
+        return packet;
+    }
+
+    private EncodedPacket encodedMeta(int index) {
+        EncodedPacket packet = metaCache[index];
+        if (packet == null) {
+            packet = EncodedPacket.encode(entities.get(index).getEntityMeta().createPacket());
+            metaCache[index] = packet;
+        }
+        return packet;
+    }
+
+    /**
+     * Send a packet to every viewer through the packet sink
+     */
+    protected void send(PacketWrapper<?> packet) {
+        if (viewers.size() == 1) {
+            if (measurePacketBytes) pendingBytes += PacketSizes.serializedSize(packet);
+            packetSink.send(player, packet);
+            pendingPackets++;
+            return;
+        }
+        send(EncodedPacket.encode(packet));
+    }
+
+    /**
+     * Send an encoded packet to every viewer; the body is copied, not re-encoded
+     */
+    protected void send(EncodedPacket packet) {
+        sendTo(viewers, packet);
+    }
+
+    private void sendTo(List<Player> targets, EncodedPacket packet) {
+        packetSink.send(targets, packet);
+        pendingPackets += targets.size();
+        if (measurePacketBytes) pendingBytes += (long) PacketSizes.serializedSize(packet) * targets.size();
+    }
+
+    /**
+     * Whether every viewer's connection can take more packets
+     */
+    private boolean viewersWritable() {
+        for (Player viewer : viewers) {
+            if (!packetSink.isWritable(viewer)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Record the packets sent since the last flush in the metrics and as a JFR event
+     */
+    private void recordFlush() {
+        if (pendingPackets == 0) return;
+
+        RenderMetrics metrics = plugin.getRenderMetrics();
+        if (metrics != null) metrics.recordPackets(pendingPackets, pendingBytes);
+
+        PacketFlushEvent event = new PacketFlushEvent();
+        if (event.shouldCommit()) {
+            event.player = player.getName();
+            event.packets = pendingPackets;
+            event.bytes = pendingBytes;
+            event.commit();
+        }
+
+        pendingPackets = 0;
+        pendingBytes = 0;
+    }
+
+    /**
+     * Set basic display meta for an entity. Metadata entries only exist once
+     * set, so values equal to the client default are left unset and never sent.
+     */
+    protected void setupDisplayMeta(WrapperEntity entity) {
+        if (!(entity.getEntityMeta() instanceof AbstractDisplayMeta)) return;
+        AbstractDisplayMeta meta = (AbstractDisplayMeta) entity.getEntityMeta();
+        if (config.getViewRange() != DEFAULT_VIEW_RANGE) meta.setViewRange(config.getViewRange());
+        if (config.isAlwaysBright()) meta.setBrightnessOverride(config.getFullBrightness());
+        // strength only matters for a visible shadow
+        if (config.getShadowRadius() != DEFAULT_SHADOW_RADIUS) {
+            meta.setShadowRadius(config.getShadowRadius());
+            if (config.getShadowStrength() != DEFAULT_SHADOW_STRENGTH) meta.setShadowStrength(config.getShadowStrength());
+        }
+        if (config.hasGlowColor()) meta.setGlowColorOverride(config.getGlowColor());
+    }
+
+    /**
+     * Set entity scale
+     */
+    protected void setScale(WrapperEntity entity, com.github.retrooper.packetevents.util.Vector3f scale) {
+        if (entity.getEntityMeta() instanceof AbstractDisplayMeta) {
+            ((AbstractDisplayMeta) entity.getEntityMeta()).setScale(scale);
+        }
+    }
+
+    /**
+     * Set entity translation
+     */
+    protected void setTranslation(WrapperEntity entity, com.github.retrooper.packetevents.util.Vector3f translation) {
+        if (entity.getEntityMeta() instanceof AbstractDisplayMeta) {
+            ((AbstractDisplayMeta) entity.getEntityMeta()).setTranslation(translation);
+        }
+    }
+
+    /**
+     * Set entity rotation
+     */
+    protected void setRotation(WrapperEntity entity, Quaternion4f rotation) {
+        if (entity.getEntityMeta() instanceof AbstractDisplayMeta) {
+            ((AbstractDisplayMeta) entity.getEntityMeta()).setLeftRotation(rotation);
+        }
+    }
+
+    /**
+     * Batch update entity meta to avoid sending multiple packets.
+     *
+     * Only the entries the updater changed are sent. An entity not sent yet
+     * picks the change up with its spawn; while the connection is saturated
+     * the update is held back, and later updates to the same entity collapse
+     * into one metadata packet with its full state.
+     */
+    protected synchronized void batchUpdate(WrapperEntity entity, Runnable updater) {
+        if (!(entity.getEntityMeta() instanceof AbstractDisplayMeta)) {
+            updater.run();
+            return;
+        }
+        AbstractDisplayMeta meta = (AbstractDisplayMeta) entity.getEntityMeta();
+        Map<Integer, Object> before = new HashMap<>();
+        for (EntityData<?> data : meta.getMetadata().getEntries()) {
+            before.put(data.getIndex(), data.getValue());
+        }
+        meta.getMetadata().setNotifyAboutChanges(false);
+        updater.run();
+        meta.getMetadata().setNotifyAboutChanges(true);
+
+        List<EntityData<?>> changed = new ArrayList<>();
+        for (EntityData<?> data : meta.getMetadata().getEntries()) {
+            if (!Objects.equals(before.get(data.getIndex()), data.getValue())) changed.add(data);
+        }
+        if (changed.isEmpty()) return;
+
+        int index = entities.indexOf(entity);
+        if (index >= 0) metaCache[index] = null;
+        if (index >= 0 && !sent.get(index)) return;
+
+        if (renderQueue != null && renderQueue.isBackpressureEnabled()
+                && (!staleMeta.isEmpty() || !viewersWritable())) {
+            staleMeta.add(entity);
+            renderQueue.schedule(this);
+            return;
+        }
+        send(new WrapperPlayServerEntityMetadata(entity.getEntityId(), changed));
+
+        RenderMetrics metrics = plugin.getRenderMetrics();
+        if (metrics != null) metrics.recordEntitiesUpdated(1);
+        recordFlush();
+    }
+
+    /**
+     * Interpolate points between two locations
+     * @return list of points (excluding start and end)
+     */
+    protected List<Location> interpolate(Location start, Location end, int segments) {
+        List<Location> points = new ArrayList<>();
+        if (segments <= 0) return points;
+        double dx = (end.getX() - start.getX()) / (segments + 1);
+        double dy = (end.getY() - start.getY()) / (segments + 1);
+        double dz = (end.getZ() - start.getZ()) / (segments + 1);
+        for (int i = 1; i <= segments; i++) {
+            points.add(new Location(
+                    start.getWorld(),
+                    start.getX() + dx * i,
+                    start.getY() + dy * i,
+                    start.getZ() + dz * i
+            ));
+        }
+        return points;
+    }
+
+    protected Location toLocation(double x, double y, double z) {
+        return new Location(player.getWorld(), x, y, z);
+    }
+
+    /**
+     * Render a line using an ItemDisplay entity, or a BlockDisplay when the
+     * config asks for block displays and the material is a block
+     */
+    protected void renderLine(Line line, Material material, float thickness) {
+        Vector3f start = line.start();
+        Vector3f end = line.end();
+        float length = start.distance(end) + thickness;
+        Vector3f midpoint = new Vector3f((start.x + end.x)/2, (start.y + end.y)/2, (start.z + end.z)/2);
+        Location playerLoc = player.getLocation();
+        Location spawnLoc = anchorFor(playerLoc, midpoint.x, Math.min(start.y, end.y) - thickness, midpoint.z);
+        long emitStart = System.nanoTime();
+        Vector3f anchor = new Vector3f((float) spawnLoc.getX(), (float) spawnLoc.getY(), (float) spawnLoc.getZ());
+        Vector3f translation = new Vector3f(midpoint).sub(anchor);
+        float distance = new Vector3f(midpoint).sub((float) playerLoc.x(), (float) playerLoc.y(), (float) playerLoc.z()).lengthSquared();
+        Vector3f direction = new Vector3f(end).sub(start).normalize();
+        Vector3f defaultDir = new Vector3f(0, 0, 1);
+        org.joml.Quaternionf rotation = new org.joml.Quaternionf();
+        rotation.rotationTo(defaultDir, direction);
+
+        WrapperEntity entity;
+        if (config.getPrimitive() == RenderConfig.Primitive.BLOCK_DISPLAY && material.isBlock()) {
+            entity = createEntity(EntityTypes.BLOCK_DISPLAY, spawnLoc);
+            ((BlockDisplayMeta) entity.getEntityMeta()).setBlockId(blockStateId(material));
+            // block models span 0..1 from their corner while item models are centered
+            translation.sub(rotation.transform(new Vector3f(thickness / 2, thickness / 2, length / 2)));
+        } else {
+            entity = createEntity(EntityTypes.ITEM_DISPLAY, spawnLoc);
+            ItemDisplayMeta meta = (ItemDisplayMeta) entity.getEntityMeta();
+            // display type NONE is the client default and is left unset
+            meta.setItem(packetItem(material));
+        }
+        AbstractDisplayMeta meta = (AbstractDisplayMeta) entity.getEntityMeta();
+        setTransform(meta, translation, rotation, new com.github.retrooper.packetevents.util.Vector3f(thickness, thickness, length));
+        setupDisplayMeta(entity);
+        // the line overhangs its end points by half the thickness lengthwise and sideways
+        if (config.hasCullingBounds()) setCullingBounds(meta, anchor, thickness, start, end);
+        distances[entities.size() - 1] = distance;
+        emitNanos += System.nanoTime() - emitStart;
+    }
+
+    /**
+     * Render a flat one block item model, e.g. from the grid resource pack,
+     * scaled to width x height in the plane of the rotated x and y axes
+     */
+    protected void renderPlane(Vector3f center, org.joml.Quaternionf rotation, float width, float height,
+                               com.github.retrooper.packetevents.protocol.item.ItemStack item) {
+        Vector3f[] corners = new Vector3f[4];
+        float minY = Float.MAX_VALUE;
+        for (int i = 0; i < corners.length; i++) {
+            Vector3f corner = new Vector3f((i & 1) == 0 ? -width / 2 : width / 2, (i & 2) == 0 ? -height / 2 : height / 2, 0);
+            corners[i] = rotation.transform(corner).add(center);
+            minY = Math.min(minY, corners[i].y);
+        }
+        Location playerLoc = player.getLocation();
+        Location spawnLoc = anchorFor(playerLoc, center.x, minY, center.z);
+        long emitStart = System.nanoTime();
+        Vector3f anchor = new Vector3f((float) spawnLoc.getX(), (float) spawnLoc.getY(), (float) spawnLoc.getZ());
+
+        WrapperEntity entity = createEntity(EntityTypes.ITEM_DISPLAY, spawnLoc);
+        ItemDisplayMeta meta = (ItemDisplayMeta) entity.getEntityMeta();
+        meta.setItem(item);
+        setTransform(meta, new Vector3f(center).sub(anchor), rotation, new com.github.retrooper.packetevents.util.Vector3f(width, height, 1));
+        setupDisplayMeta(entity);
+        if (config.hasCullingBounds()) setCullingBounds(meta, anchor, 0, corners);
+        distances[entities.size() - 1] = new Vector3f(center).sub((float) playerLoc.x(), (float) playerLoc.y(), (float) playerLoc.z()).lengthSquared();
+        emitNanos += System.nanoTime() - emitStart;
+    }
+
+    /**
+     * Spawn location of a primitive. With culling bounds it is the
+     * primitive's own bottom centre, so its culling box is centred on it and
+     * grows upwards from its lowest point; otherwise the player's position.
+     */
+    private Location anchorFor(Location playerLoc, float centerX, float minY, float centerZ) {
+        if (!config.hasCullingBounds()) return new Location(player.getWorld(), playerLoc.x(), playerLoc.y(), playerLoc.z());
+        return new Location(player.getWorld(), centerX, minY, centerZ);
+    }
+
+    /**
+     * Set scale, rotation and translation, leaving identity rotation and zero translation unset
+     */
+    private void setTransform(AbstractDisplayMeta meta, Vector3f translation, org.joml.Quaternionf rotation,
+                              com.github.retrooper.packetevents.util.Vector3f scale) {
+        meta.setScale(scale);
+        if (rotation.x != 0 || rotation.y != 0 || rotation.z != 0) {
+            meta.setLeftRotation(new Quaternion4f(rotation.x, rotation.y, rotation.z, rotation.w));
+        }
+        if (translation.x != 0 || translation.y != 0 || translation.z != 0) {
+            meta.setTranslation(new com.github.retrooper.packetevents.util.Vector3f(translation.x, translation.y, translation.z));
+        }
+    }
+
+    /**
+     * Give the client a culling box around the primitive instead of the
+     * default empty one, which is never culled, and a view range reaching its
+     * far end. The box is centered on the entity horizontally and starts at
+     * its feet, which anchorFor puts at the primitive's bottom centre, so the
+     * box only spans the primitive's own extent.
+     *
+     * @param margin how far the primitive reaches past the given points
+     */
+    private void setCullingBounds(AbstractDisplayMeta meta, Vector3f anchor, float margin, Vector3f... points) {
+        float horizontal = 0;
+        float top = 0;
+        float reach = 0;
+        for (Vector3f point : points) {
+            horizontal = Math.max(horizontal, Math.abs(point.x - anchor.x) + margin);
+            horizontal = Math.max(horizontal, Math.abs(point.z - anchor.z) + margin);
+            top = Math.max(top, point.y - anchor.y + margin);
+            reach = Math.max(reach, point.distance(anchor));
+        }
+        meta.setWidth(horizontal * 2);
+        meta.setHeight(top);
+
+        // view range is a multiple of 64 blocks measured from the entity
+        meta.setViewRange(config.getViewRange() + reach / 64f);
+    }
+
+    /**
+     * Default state of the material, looked up in PacketEvents' own block
+     * registry like {@link #packetItem(Material)}; materials it does not know
+     * go through the server's block data
+     */
+    private static int blockStateId(Material material) {
+        return BLOCK_STATE_IDS.computeIfAbsent(material, m -> {
+            StateType type = StateTypes.getByName(m.getKey().toString());
+            return type != null
+                    ? WrappedBlockState.getDefaultState(type).getGlobalId()
+                    : SpigotConversionUtil.fromBukkitBlockData(m.createBlockData()).getGlobalId();
+        });
+    }
+
+    /**
+     * Plain item of the material, looked up in PacketEvents' own item
+     * registry so no server internals are touched; materials it does not
+     * know go through the server's item conversion
+     */
+    private static com.github.retrooper.packetevents.protocol.item.ItemStack packetItem(Material material) {
+        return ITEMS.computeIfAbsent(material, m -> {
+            ItemType type = ItemTypes.getByName(m.getKey().toString());
+            return type != null
+                    ? com.github.retrooper.packetevents.protocol.item.ItemStack.builder().type(type).amount(1).build()
+                    : SpigotConversionUtil.fromBukkitItemStack(new ItemStack(m));
+        });
+    }
+
+    /**
+     * Renders multiple lines
+     */
+    protected void renderLines(Material material, float thickness, Line... lines) {
+        for (Line line : lines) {
+            renderLine(line, material, thickness);
+        }
+    }
+
+    /**
+     * Renders multiple lines
+     */
+    protected void renderLines(Material material, float thickness, List<Line> lines) {
+        for (Line line : lines) {
+            renderLine(line, material, thickness);
+        }
+    }
+
+    /**
+     * Render a cube marker
+     */
+    protected void renderCube(Vector3f center, float size, Material material, float thickness) {
+        renderLines(material, thickness, BoxGeometry.cube(center, size));
+    }
+
+    /**
+     * Render the edges of a box using 12 lines
+     */
+    protected void renderBoxFrame(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, Material material, float thickness) {
+        renderLines(material, thickness, BoxGeometry.frame(minX, minY, minZ, maxX, maxY, maxZ));
+    }
+
+    /**
+     * Render a point marker with a small padding cube
+     */
+    protected void renderPointMarker(dev.twme.worldeditdisplay.region.Vector3 point, Material material, float thickness) {
+        renderLines(material, thickness, BoxGeometry.pointMarker(point.getX(), point.getY(), point.getZ()));
+    }
+
+    public synchronized void setConfig(RenderConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Redirect this renderer's packets, e.g. to a recording sink
+     *
+     * @param packetSink destination for spawn, metadata and destroy packets
+     * @param measurePacketBytes encode each packet once more to count its bytes
+     */
+    public void setPacketSink(PacketSink packetSink, boolean measurePacketBytes) {
+        this.packetSink = packetSink;
+        this.measurePacketBytes = measurePacketBytes;
+    }
+
+    /**
+     * Spread large passes over ticks through this queue, null sends everything at once
+     */
+    public void setRenderQueue(RenderQueue renderQueue) {
+        this.renderQueue = renderQueue;
+    }
+
+    public int getEntityCount() {
+        return entities.size();
+    }
+
+    /**
+     * Settings snapshot used by the last render pass
+     */
+    public ResolvedRenderSettings getResolvedSettings() {
+        return resolved;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Get the material for rendering, using CUI override for multi-selection
+     */
+    protected Material getMaterialWithOverride(Region region, int colorIndex,
+                                               Material defaultMaterial, boolean isMultiSelection) {
+        if (!isMultiSelection) return defaultMaterial;
+        Material override = region.getColorMaterial(colorIndex);
+        return override != null ? override : defaultMaterial;
+    }
+
+    /**
+     * Check if a region is part of a multi-selection
+     */
+    protected boolean isMultiSelection(Region region) {
+        if (player == null) return false;
+        dev.twme.worldeditdisplay.player.PlayerData playerData = dev.twme.worldeditdisplay.player.PlayerData.getPlayerData(player);
+        if (playerData == null) return false;
+        return playerData.getMultiRegions().containsValue(region);
+    }
+}
\ No newline at end of file
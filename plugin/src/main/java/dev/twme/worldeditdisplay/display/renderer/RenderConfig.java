@@ -1,5 +1,6 @@
 package dev.twme.worldeditdisplay.display.renderer;
 
+import dev.twme.worldeditdisplay.resourcepack.GridResourcePack;
 import me.tofaa.entitylib.meta.display.AbstractDisplayMeta;
 
 /**
@@ -8,11 +9,42 @@ import me.tofaa.entitylib.meta.display.AbstractDisplayMeta;
  */
 public class RenderConfig {
 
+    /**
+     * Entity type lines are drawn with
+     */
+    public enum Primitive {
+        // item stack and display type in metadata
+        ITEM_DISPLAY("item_display"),
+        // a single block state id in metadata
+        BLOCK_DISPLAY("block_display");
+
+        private final String key;
+
+        Primitive(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public static Primitive fromKey(String key) {
+            for (Primitive primitive : values()) {
+                if (primitive.key.equalsIgnoreCase(key)) return primitive;
+            }
+            return null;
+        }
+    }
+
+    private Primitive primitive;              // line entity type
+
     private int interpolationDelay;           // ticks between interpolation steps
     private int transformationDuration;       // ticks for transformations
     private AbstractDisplayMeta.BillboardConstraints billboardMode;
 
     private float viewRange;                  // visibility range multiplier
+    private boolean cullingBounds;            // send a culling box and view range fitted to each line
+    private GridResourcePack gridPack;        // cuboid grids as one resource pack model per face and direction, null for lines
 
     private boolean alwaysBright;             // override light level
     private int brightnessOverride;           // custom brightness value
@@ -27,10 +59,13 @@ public class RenderConfig {
     private int lineSegments;                 // number of segments per unit length
 
     private RenderConfig() {
+        primitive = Primitive.ITEM_DISPLAY;
         interpolationDelay = 0;
         transformationDuration = 5;
         billboardMode = AbstractDisplayMeta.BillboardConstraints.CENTER;
         viewRange = 1.0f;
+        cullingBounds = true;
+        gridPack = null;
         alwaysBright = true;
         brightnessOverride = getFullBrightness();
         shadowRadius = 0.0f;
@@ -49,11 +84,53 @@ public class RenderConfig {
         return new Builder();
     }
 
+    /**
+     * Copy of this config drawing lines with another primitive
+     */
+    public RenderConfig withPrimitive(Primitive primitive) {
+        RenderConfig copy = copy();
+        copy.primitive = primitive;
+        return copy;
+    }
+
+    /**
+     * Copy of this config drawing cuboid grids with the given pack, null for lines
+     */
+    public RenderConfig withGridPack(GridResourcePack gridPack) {
+        RenderConfig copy = copy();
+        copy.gridPack = gridPack;
+        return copy;
+    }
+
+    private RenderConfig copy() {
+        RenderConfig copy = new RenderConfig();
+        copy.primitive = primitive;
+        copy.interpolationDelay = interpolationDelay;
+        copy.transformationDuration = transformationDuration;
+        copy.billboardMode = billboardMode;
+        copy.viewRange = viewRange;
+        copy.cullingBounds = cullingBounds;
+        copy.gridPack = gridPack;
+        copy.alwaysBright = alwaysBright;
+        copy.brightnessOverride = brightnessOverride;
+        copy.shadowRadius = shadowRadius;
+        copy.shadowStrength = shadowStrength;
+        copy.glowColor = glowColor;
+        copy.hasGlowColor = hasGlowColor;
+        copy.lineThickness = lineThickness;
+        copy.lineSegments = lineSegments;
+        return copy;
+    }
+
     // Getters
+    public Primitive getPrimitive() { return primitive; }
     public int getInterpolationDelay() { return interpolationDelay; }
     public int getTransformationDuration() { return transformationDuration; }
     public AbstractDisplayMeta.BillboardConstraints getBillboardMode() { return billboardMode; }
     public float getViewRange() { return viewRange; }
+    public boolean hasCullingBounds() { return cullingBounds; }
+    public boolean isFaceMode() { return gridPack != null; }
+    public GridResourcePack getGridPack() { return gridPack; }
     public boolean isAlwaysBright() { return alwaysBright; }
     public int getBrightnessOverride() { return brightnessOverride; }
     public float getShadowRadius() { return shadowRadius; }
@@ -82,10 +159,13 @@ public class RenderConfig {
             config = new RenderConfig();
         }
 
+        public Builder primitive(Primitive primitive) { config.primitive = primitive; return this; }
         public Builder interpolationDelay(int delay) { config.interpolationDelay = delay; return this; }
         public Builder transformationDuration(int duration) { config.transformationDuration = duration; return this; }
         public Builder billboardMode(AbstractDisplayMeta.BillboardConstraints mode) { config.billboardMode = mode; return this; }
         public Builder viewRange(float range) { config.viewRange = range; return this; }
+        public Builder cullingBounds(boolean culling) { config.cullingBounds = culling; return this; }
+        public Builder gridPack(GridResourcePack gridPack) { config.gridPack = gridPack; return this; }
         public Builder alwaysBright(boolean bright) {
             config.alwaysBright = bright;
             if (!bright) config.brightnessOverride = -1;
@@ -3,6 +3,8 @@ package dev.twme.worldeditdisplay.event;
 import java.util.List;
 
 import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.metrics.RenderMetrics;
+import dev.twme.worldeditdisplay.metrics.RenderPhase;
 import dev.twme.worldeditdisplay.player.PlayerData;
 
 /**
@@ -38,18 +40,35 @@ public abstract class CUIEvent {
     }
     
     /**
-     * 執行事件並觸發渲染更新
+     * 執行事件並請求渲染更新
+     * 渲染本身由 RenderScheduler 依各玩家的公平份額排程執行
      * 
      * @return 事件處理結果
      */
     public String execute() {
-        String result = raise();
+        WorldEditDisplay plugin = WorldEditDisplay.getPlugin();
         
-        // 如果事件需要更新渲染,則觸發更新
+        long start = System.nanoTime();
+        String result;
+        if (playerData != null) {
+            // 與渲染互斥，避免渲染讀到套用到一半的選區
+            synchronized (playerData.getLock()) {
+                result = raise();
+            }
+        } else {
+            result = raise();
+        }
+        
+        // 記錄事件套用耗時（不含渲染）
+        RenderMetrics metrics = plugin != null ? plugin.getRenderMetrics() : null;
+        if (metrics != null) {
+            metrics.recordPhase(RenderPhase.EVENT_APPLY, System.nanoTime() - start);
+        }
+        
+        // 如果事件需要更新渲染,則交由排程器在之後的 tick 渲染
         if (shouldUpdateRender() && playerData != null && playerData.getPlayer() != null) {
-            WorldEditDisplay plugin = WorldEditDisplay.getPlugin();
             if (plugin != null && plugin.getRenderManager() != null) {
-                plugin.getRenderManager().updateRender(playerData.getPlayer());
+                plugin.getRenderManager().requestRender(playerData.getPlayer());
             }
         }
         
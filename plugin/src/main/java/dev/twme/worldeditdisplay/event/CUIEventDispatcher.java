@@ -1,5 +1,9 @@
 package dev.twme.worldeditdisplay.event;
 
+import java.util.logging.Level;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.metrics.RenderMetrics;
 import dev.twme.worldeditdisplay.player.PlayerData;
 
 /**
@@ -16,6 +20,7 @@ public class CUIEventDispatcher {
         try {
             final CUIEventType type = CUIEventType.named(eventArgs.getType());
             if (type == null) {
+                recordFailure(eventArgs, null);
                 return;
             }
 
@@ -27,10 +32,22 @@ public class CUIEventDispatcher {
                 this.handleEventResponse(response);
             }
         } catch (Exception ex) {
-            // Exception occurred, but we'll just ignore it
+            // a bad message must not break the packet pipeline, but it is counted
+            recordFailure(eventArgs, ex);
         }
     }
 
+    private void recordFailure(CUIEventArgs eventArgs, Exception ex) {
+        WorldEditDisplay plugin = WorldEditDisplay.getPlugin();
+        if (plugin == null) return;
+
+        RenderMetrics metrics = plugin.getRenderMetrics();
+        if (metrics != null) metrics.recordCuiParseFailure();
+
+        plugin.getLogger().log(Level.FINE, "Failed to handle CUI event '" + eventArgs.getType()
+                + "' " + eventArgs.getParams(), ex);
+    }
+
     private void handleEventResponse(String response) {
         // Not implemented yet
     }
@@ -0,0 +1,26 @@
+package dev.twme.worldeditdisplay.event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A decoded CUI plugin message: [+]type|param|param...
+ * A leading + marks a multi-selection message.
+ */
+public record CUIMessage(boolean multi, String type, List<String> params) {
+
+    public static CUIMessage parse(byte[] data) {
+        return parse(new String(data, StandardCharsets.UTF_8));
+    }
+
+    public static CUIMessage parse(String message) {
+        String[] split = message.split("\\|", -1); // preserve trailing empty strings
+        boolean multi = split[0].startsWith("+");
+        String type = split[0].substring(multi ? 1 : 0);
+        List<String> params = split.length > 1
+                ? Arrays.asList(Arrays.copyOfRange(split, 1, split.length))
+                : List.of();
+        return new CUIMessage(multi, type, params);
+    }
+}
@@ -100,33 +100,7 @@ public class CUIEventColour extends CUIEvent {
             return null;
         }
         
-        try {
-            // 移除 # 符號
-            String hex = hexColor.substring(1);
-            
-            // 解析 RGB 值
-            int r, g, b;
-            
-            if (hex.length() >= 6) {
-                r = Integer.parseInt(hex.substring(0, 2), 16);
-                g = Integer.parseInt(hex.substring(2, 4), 16);
-                b = Integer.parseInt(hex.substring(4, 6), 16);
-                
-                // Alpha 值（如果提供的話）目前不使用
-                // int a = hex.length() >= 8 ? Integer.parseInt(hex.substring(6, 8), 16) : 255;
-                
-                // 確保 ColorMatcher 已初始化
-                ColorMatcher.initialize();
-                
-                // 使用 ColorMatcher 找到最接近的材質
-                return ColorMatcher.findClosestMaterial(r, g, b);
-                
-            } else {
-                return null;
-            }
-            
-        } catch (NumberFormatException e) {
-            return null;
-        }
+        // ColorMatcher 會快取十六進制字串並透過預先建立的查找表取得材質
+        return ColorMatcher.findClosestMaterial(hexColor);
     }
 }
@@ -1,6 +1,8 @@
 package dev.twme.worldeditdisplay.lang;
 
 import dev.twme.worldeditdisplay.WorldEditDisplay;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 
@@ -12,17 +14,23 @@ import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 /**
  * Manages multi-language support.
  * Loads, stores, and provides translations for different languages.
+ * Messages are parsed into Component templates once per (language, key)
+ * and client locales are mapped to a loaded language once per locale.
  */
 public class LanguageManager {
 
     private final WorldEditDisplay plugin;
     private final Map<String, YamlConfiguration> languages = new HashMap<>();
     private final Map<UUID, String> playerLanguages = new HashMap<>();
+    private final Map<String, Map<String, MessageTemplate>> templates = new ConcurrentHashMap<>();
+    private final Map<String, String> localeLanguages = new ConcurrentHashMap<>();
+    private final MiniMessage miniMessage = MiniMessage.miniMessage();
     private String defaultLanguage = "en_us";
 
     public LanguageManager(WorldEditDisplay plugin) {
@@ -98,6 +106,8 @@ public class LanguageManager {
             }
 
             languages.put(lang, config);
+            templates.remove(lang);
+            localeLanguages.clear();
             plugin.getLogger().info("Loaded language: " + lang);
         } catch (Exception e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to load language file: " + lang, e);
@@ -109,6 +119,8 @@ public class LanguageManager {
      */
     public void reload() {
         languages.clear();
+        templates.clear();
+        localeLanguages.clear();
         loadDefaultLanguages();
     }
 
@@ -116,7 +128,8 @@ public class LanguageManager {
      * Get player's language
      */
     public String getPlayerLanguage(Player player) {
-        return playerLanguages.getOrDefault(player.getUniqueId(), getClientLanguage(player));
+        String lang = playerLanguages.get(player.getUniqueId());
+        return lang != null ? lang : getClientLanguage(player);
     }
 
     /**
@@ -138,17 +151,7 @@ public class LanguageManager {
      */
     private String getClientLanguage(Player player) {
         try {
-            String clientLocale = player.locale().toString();
-            clientLocale = clientLocale.toLowerCase().replace("-", "_");
-
-            // check if exact match exists
-            if (languages.containsKey(clientLocale)) return clientLocale;
-
-            // fallback: just use language code (like zh)
-            String langCode = clientLocale.split("_")[0];
-            for (String lang : languages.keySet()) {
-                if (lang.startsWith(langCode)) return lang;
-            }
+            return localeLanguages.computeIfAbsent(player.locale().toString(), this::resolveLocale);
         } catch (Exception e) {
             plugin.getLogger().log(Level.WARNING, "Failed to get player language settings", e);
         }
@@ -156,6 +159,24 @@ public class LanguageManager {
         return defaultLanguage; // fallback to default
     }
 
+    /**
+     * Map a client locale to a loaded language (cached per locale)
+     */
+    private String resolveLocale(String locale) {
+        String clientLocale = locale.toLowerCase().replace("-", "_");
+
+        // check if exact match exists
+        if (languages.containsKey(clientLocale)) return clientLocale;
+
+        // fallback: just use language code (like zh)
+        String langCode = clientLocale.split("_")[0];
+        for (String lang : languages.keySet()) {
+            if (lang.startsWith(langCode)) return lang;
+        }
+
+        return defaultLanguage;
+    }
+
     /**
      * Get translated message for a player
      */
@@ -168,20 +189,37 @@ public class LanguageManager {
      * Get translated message for a specific language
      */
     public String getMessage(String lang, String key, Object... args) {
-        YamlConfiguration config = languages.get(lang);
-
-        // fallback to default language if missing
-        if (config == null) config = languages.get(defaultLanguage);
+        return getTemplate(lang, key).format(args);
+    }
 
-        // still missing? return key
-        if (config == null) return key;
+    /**
+     * Get translated component for a player
+     */
+    public Component getComponent(Player player, String key, Object... args) {
+        return getComponent(getPlayerLanguage(player), key, args);
+    }
 
-        String message = config.getString(key);
-        if (message == null) return key;
+    /**
+     * Get translated component for a specific language
+     */
+    public Component getComponent(String lang, String key, Object... args) {
+        return getTemplate(lang, key).render(args);
+    }
 
-        if (args.length > 0) message = String.format(message, args);
+    /**
+     * Get the compiled template for a key, parsing it on first use
+     */
+    private MessageTemplate getTemplate(String lang, String key) {
+        // fallback to default language if missing
+        if (!languages.containsKey(lang)) lang = defaultLanguage;
 
-        return message;
+        YamlConfiguration config = languages.get(lang);
+        Map<String, MessageTemplate> langTemplates = templates.computeIfAbsent(lang, k -> new ConcurrentHashMap<>());
+        return langTemplates.computeIfAbsent(key, k -> {
+            // still missing? use the key itself
+            String message = config != null ? config.getString(k) : null;
+            return MessageTemplate.compile(message != null ? message : k, miniMessage);
+        });
     }
 
     /**
@@ -0,0 +1,124 @@
+package dev.twme.worldeditdisplay.lang;
+
+import java.util.ArrayList;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+
+/**
+ * A language message parsed into a Component once.
+ *
+ * printf-style specifiers (%s, %d, %.2f, %1$s ...) are swapped for markers
+ * before MiniMessage parsing; each marker keeps its own format so arguments
+ * are formatted with the type the message expects and inserted as plain text.
+ */
+public final class MessageTemplate {
+
+    private static final Pattern SPECIFIER = Pattern.compile("%(?:(\\d+)\\$)?([-#+ 0,(]*)(\\d+)?(\\.\\d+)?([a-zA-Z%])");
+
+    // private use characters never show up in language files
+    private static final char MARKER_START = '\uE000';
+    private static final char MARKER_END = '\uE001';
+    private static final Pattern MARKER = Pattern.compile(MARKER_START + "(\\d+)" + MARKER_END);
+
+    private final String raw;
+    private final Component component;
+    private final Placeholder[] placeholders;
+
+    private MessageTemplate(String raw, Component component, Placeholder[] placeholders) {
+        this.raw = raw;
+        this.component = component;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * Parse a raw language string
+     */
+    public static MessageTemplate compile(String raw, MiniMessage miniMessage) {
+        List<Placeholder> placeholders = new ArrayList<>();
+        StringBuilder source = new StringBuilder(raw.length());
+        Matcher matcher = SPECIFIER.matcher(raw);
+        int last = 0;
+        int nextIndex = 0;
+
+        while (matcher.find()) {
+            source.append(raw, last, matcher.start());
+            last = matcher.end();
+
+            char conversion = matcher.group(5).charAt(0);
+            if (conversion == '%') {
+                source.append('%');
+                continue;
+            }
+            if (conversion == 'n') {
+                source.append('\n');
+                continue;
+            }
+
+            int argIndex = matcher.group(1) != null ? Integer.parseInt(matcher.group(1)) - 1 : nextIndex++;
+            String format = "%" + nullToEmpty(matcher.group(2)) + nullToEmpty(matcher.group(3))
+                    + nullToEmpty(matcher.group(4)) + conversion;
+
+            source.append(MARKER_START).append(placeholders.size()).append(MARKER_END);
+            placeholders.add(new Placeholder(argIndex, format, matcher.group()));
+        }
+        source.append(raw, last, raw.length());
+
+        Component component = miniMessage.deserialize(source.toString());
+        return new MessageTemplate(raw, component, placeholders.toArray(new Placeholder[0]));
+    }
+
+    /**
+     * Fill in the arguments; templates without placeholders return the cached component
+     */
+    public Component render(Object... args) {
+        if (placeholders.length == 0) return component;
+
+        String[] values = new String[placeholders.length];
+        for (int i = 0; i < placeholders.length; i++) {
+            values[i] = placeholders[i].format(args);
+        }
+
+        return component.replaceText(TextReplacementConfig.builder()
+                .match(MARKER)
+                .replacement((match, builder) -> builder.content(values[Integer.parseInt(match.group(1))]))
+                .build());
+    }
+
+    /**
+     * Plain String.format style output, for callers that still need a String
+     */
+    public String format(Object... args) {
+        if (placeholders.length == 0) return raw;
+        try {
+            return String.format(raw, args);
+        } catch (IllegalFormatException e) {
+            return raw;
+        }
+    }
+
+    public String getRaw() {
+        return raw;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private record Placeholder(int argIndex, String format, String original) {
+
+        String format(Object[] args) {
+            if (argIndex < 0 || argIndex >= args.length) return original;
+            try {
+                return String.format(format, args[argIndex]);
+            } catch (IllegalFormatException e) {
+                return String.valueOf(args[argIndex]);
+            }
+        }
+    }
+}
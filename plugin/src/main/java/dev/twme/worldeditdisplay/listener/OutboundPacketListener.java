@@ -0,0 +1,83 @@
+package dev.twme.worldeditdisplay.listener;
+
+import org.bukkit.entity.Player;
+
+import com.github.retrooper.packetevents.event.PacketListener;
+import com.github.retrooper.packetevents.event.PacketSendEvent;
+import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerPluginMessage;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.common.Constants;
+import dev.twme.worldeditdisplay.event.CUIEventArgs;
+import dev.twme.worldeditdisplay.event.CUIMessage;
+import dev.twme.worldeditdisplay.metrics.CuiMessageEvent;
+import dev.twme.worldeditdisplay.metrics.RenderMetrics;
+import dev.twme.worldeditdisplay.metrics.RenderPhase;
+import dev.twme.worldeditdisplay.player.PlayerData;
+import dev.twme.worldeditdisplay.trace.CuiTraceManager;
+
+/**
+ * Listens to outgoing plugin messages.
+ * Captures CUI messages and dispatches CUI events for the plugin.
+ */
+public class OutboundPacketListener implements PacketListener {
+
+    @Override
+    public void onPacketSend(PacketSendEvent event) {
+        if (event.getPacketType() != PacketType.Play.Server.PLUGIN_MESSAGE) return;
+
+        WrapperPlayServerPluginMessage packet = new WrapperPlayServerPluginMessage(event);
+        String channel = packet.getChannelName();
+
+        if (!Constants.CUI_CHANNEL.equals(channel)) return;
+
+        Player player = event.getPlayer();
+
+        // Skip if player lacks permission
+        if (!player.hasPermission("worldeditdisplay.use")) return;
+
+        PlayerData playerData = PlayerData.getPlayerData(player);
+
+        // If CUI already enabled, let the packet go through
+        if (playerData.isCuiEnabled()) return;
+
+        event.setCancelled(true); // cancel packet sending
+
+        WorldEditDisplay plugin = WorldEditDisplay.getPlugin();
+        CuiTraceManager traces = plugin.getCuiTraceManager();
+        if (traces != null) {
+            traces.record(player.getUniqueId(), packet.getData());
+            // a running replay owns this player's selection state
+            if (traces.isReplaying(player.getUniqueId())) return;
+        }
+
+        CuiMessageEvent jfrEvent = new CuiMessageEvent();
+        jfrEvent.begin();
+
+        // Parse CUI message
+        long parseStart = System.nanoTime();
+        CUIMessage message = CUIMessage.parse(packet.getData());
+        long parseNanos = System.nanoTime() - parseStart;
+
+        RenderMetrics metrics = plugin.getRenderMetrics();
+        if (metrics != null) {
+            metrics.recordCuiMessage();
+            metrics.recordPhase(RenderPhase.PARSE, parseNanos);
+        }
+
+        // Dispatch CUI event
+        CUIEventArgs eventArgs = new CUIEventArgs(playerData, message.multi(), message.type(), message.params());
+        playerData.getDispatcher().raiseEvent(eventArgs);
+
+        jfrEvent.end();
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.player = player.getName();
+            jfrEvent.type = message.type();
+            jfrEvent.multi = message.multi();
+            jfrEvent.parameters = message.params().size();
+            jfrEvent.parseTime = parseNanos;
+            jfrEvent.commit();
+        }
+    }
+}
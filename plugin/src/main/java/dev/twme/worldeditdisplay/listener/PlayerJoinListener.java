@@ -5,7 +5,6 @@ import com.github.retrooper.packetevents.wrapper.play.client.WrapperPlayClientPl
 import dev.twme.worldeditdisplay.WorldEditDisplay;
 import dev.twme.worldeditdisplay.common.Constants;
 import dev.twme.worldeditdisplay.player.PlayerData;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -32,12 +31,15 @@ public class PlayerJoinListener implements Listener {
         // Initialize player language
         plugin.getLanguageManager().getPlayerLanguage(player);
 
+        // Make sure render settings are cached (normally done at pre-login)
+        plugin.getPlayerSettingsManager().preloadSettings(player);
+
         // Set auto-rendering based on permissions
         PlayerData playerData = PlayerData.getPlayerData(player);
         playerData.setRenderingEnabled(player.hasPermission("worldeditdisplay.render.auto-enable"));
 
         // Delay one second to allow CUI registration first
-        Bukkit.getScheduler().scheduleSyncDelayedTask(plugin, () -> {
+        plugin.getTaskScheduler().runForEntityLater(player, () -> {
             if (!player.isOnline()) return; // player left
 
             String cuiVersionMessage = "v|4";
@@ -0,0 +1,34 @@
+package dev.twme.worldeditdisplay.listener;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+
+/**
+ * Listens for pre-login on the async login thread.
+ * Reads the player's render settings from disk before they join,
+ * so rendering never has to wait on file I/O.
+ */
+public class PlayerPreLoginListener implements Listener {
+
+    private final WorldEditDisplay plugin;
+
+    public PlayerPreLoginListener(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+        if (plugin.getPlayerSettingsManager() == null) return;
+
+        // Already on an async thread, load synchronously here
+        plugin.getPlayerSettingsManager().loadSettings(event.getUniqueId());
+
+        // Evicted again if the login never completes; joining cancels this
+        plugin.getPlayerSettingsManager().scheduleLoginTimeout(event.getUniqueId());
+    }
+}
@@ -23,7 +23,12 @@ public class PlayerQuitListener implements Listener {
     public void onPlayerQuit(PlayerQuitEvent event) {
         // Clear any rendering data for the player
         if (plugin.getRenderManager() != null) {
-            plugin.getRenderManager().clearRender(event.getPlayer().getUniqueId());
+            plugin.getRenderManager().forgetPlayer(event.getPlayer().getUniqueId());
+        }
+
+        // Close any CUI trace being recorded for the player
+        if (plugin.getCuiTraceManager() != null) {
+            plugin.getCuiTraceManager().stopRecording(event.getPlayer().getUniqueId());
         }
 
         // Remove player language record
@@ -31,6 +36,12 @@ public class PlayerQuitListener implements Listener {
             plugin.getLanguageManager().removePlayerLanguage(event.getPlayer().getUniqueId());
         }
 
+        // Write pending setting changes, but keep them cached for a while in case the player reconnects
+        if (plugin.getPlayerSettingsManager() != null) {
+            plugin.getPlayerSettingsManager().flushAsync(event.getPlayer().getUniqueId());
+            plugin.getPlayerSettingsManager().scheduleUnload(event.getPlayer().getUniqueId());
+        }
+
         // Finally, remove player data
         PlayerData.removePlayerData(event.getPlayer().getUniqueId());
     }
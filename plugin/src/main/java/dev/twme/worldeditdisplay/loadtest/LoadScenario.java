@@ -0,0 +1,157 @@
+package dev.twme.worldeditdisplay.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * CUI message sequences a virtual player loops through, modelled on what
+ * WorldEdit sends for common building workflows
+ */
+public enum LoadScenario {
+
+    /**
+     * Wand clicks: a new cuboid and both corners
+     */
+    WAND("wand") {
+        @Override
+        List<String> sequence(Random random, int x, int y, int z) {
+            int dx = 4 + random.nextInt(28), dy = 2 + random.nextInt(16), dz = 4 + random.nextInt(28);
+            return List.of(
+                    "s|cuboid",
+                    point(0, x, y, z, 1),
+                    point(1, x + dx, y + dy, z + dz, (long) (dx + 1) * (dy + 1) * (dz + 1)));
+        }
+    },
+
+    /**
+     * //expand loops: one corner moves outwards a block at a time
+     */
+    EXPAND("expand") {
+        @Override
+        List<String> sequence(Random random, int x, int y, int z) {
+            List<String> messages = new ArrayList<>();
+            messages.add("s|cuboid");
+            messages.add(point(0, x, y, z, 1));
+            int size = 4 + random.nextInt(8);
+            for (int i = 0; i < 24; i++, size++) {
+                messages.add(point(1, x + size, y + size / 2, z + size, (long) (size + 1) * (size / 2 + 1) * (size + 1)));
+            }
+            return messages;
+        }
+    },
+
+    /**
+     * Building a poly2d selection point by point
+     */
+    POLYGON("polygon") {
+        @Override
+        List<String> sequence(Random random, int x, int y, int z) {
+            List<String> messages = new ArrayList<>();
+            messages.add("s|polygon2d");
+            int points = 6 + random.nextInt(35);
+            double radius = 8 + random.nextInt(24);
+            for (int i = 0; i < points; i++) {
+                double angle = i * Math.PI * 2 / points;
+                int px = x + (int) Math.round(Math.cos(angle) * radius);
+                int pz = z + (int) Math.round(Math.sin(angle) * radius);
+                messages.add("p2|" + i + "|" + px + "|" + pz + "|" + (i + 1));
+                messages.add("mm|" + y + "|" + (y + 4 + random.nextInt(12)));
+            }
+            return messages;
+        }
+    },
+
+    /**
+     * Ellipsoid selections with growing radii
+     */
+    ELLIPSOID("ellipsoid") {
+        @Override
+        List<String> sequence(Random random, int x, int y, int z) {
+            List<String> messages = new ArrayList<>();
+            messages.add("s|ellipsoid");
+            messages.add("e|0|" + x + "|" + y + "|" + z);
+            for (int r = 2; r <= 20; r += 2) {
+                messages.add("e|1|" + r + ".0|" + (r / 2 + 1) + ".0|" + r + ".0");
+            }
+            return messages;
+        }
+    },
+
+    /**
+     * Cylinder selections with growing radius and height
+     */
+    CYLINDER("cylinder") {
+        @Override
+        List<String> sequence(Random random, int x, int y, int z) {
+            List<String> messages = new ArrayList<>();
+            messages.add("s|cylinder");
+            for (int r = 2; r <= 20; r += 2) {
+                messages.add("cyl|" + x + "|" + y + "|" + z + "|" + r + ".0|" + r + ".0");
+                messages.add("mm|" + y + "|" + (y + r));
+            }
+            return messages;
+        }
+    },
+
+    /**
+     * Multi-selection churn: regions added and removed by id
+     */
+    MULTI("multi") {
+        @Override
+        List<String> sequence(Random random, int x, int y, int z) {
+            List<String> messages = new ArrayList<>();
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                UUID id = new UUID(random.nextLong(), random.nextLong());
+                ids.add(id);
+                int ox = x + i * 12;
+                messages.add("+s|cuboid|" + id);
+                messages.add("+" + point(0, ox, y, z, 1));
+                messages.add("+" + point(1, ox + 8, y + 6, z + 8, 9 * 7 * 9));
+            }
+            for (UUID id : ids) {
+                messages.add("+s|clear|" + id);
+            }
+            return messages;
+        }
+    },
+
+    /**
+     * A random scenario for every sequence
+     */
+    MIXED("mixed") {
+        @Override
+        List<String> sequence(Random random, int x, int y, int z) {
+            LoadScenario[] concrete = {WAND, EXPAND, POLYGON, ELLIPSOID, CYLINDER, MULTI};
+            return concrete[random.nextInt(concrete.length)].sequence(random, x, y, z);
+        }
+    };
+
+    private final String key;
+
+    LoadScenario(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * One pass of the workflow around the given block
+     */
+    abstract List<String> sequence(Random random, int x, int y, int z);
+
+    public static LoadScenario fromKey(String key) {
+        for (LoadScenario scenario : values()) {
+            if (scenario.key.equalsIgnoreCase(key)) return scenario;
+        }
+        return null;
+    }
+
+    private static String point(int id, int x, int y, int z, long volume) {
+        return "p|" + id + "|" + x + "|" + y + "|" + z + "|" + volume;
+    }
+}
@@ -0,0 +1,227 @@
+package dev.twme.worldeditdisplay.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.display.packet.RecordingPacketSink;
+import dev.twme.worldeditdisplay.display.renderer.RenderConfig;
+import dev.twme.worldeditdisplay.event.CUIEventArgs;
+import dev.twme.worldeditdisplay.event.CUIMessage;
+import dev.twme.worldeditdisplay.metrics.LatencyHistogram;
+import dev.twme.worldeditdisplay.metrics.RenderMetrics;
+import dev.twme.worldeditdisplay.player.PlayerData;
+
+/**
+ * Drives the CUI to render pipeline with virtual players.
+ *
+ * Every virtual player loops through a scenario at a fixed message rate on
+ * a small worker pool, the way CUI messages arrive on Netty threads. Packets
+ * go to a counting sink so nothing reaches a real client.
+ */
+public class LoadTest {
+
+    /**
+     * Load test parameters
+     *
+     * @param players number of virtual players
+     * @param seconds how long messages are sent
+     * @param messagesPerSecond CUI messages per virtual player per second
+     * @param scenario workflow each virtual player loops through
+     * @param primitive line entity type to render with, null for the server's render.primitive
+     */
+    public record Options(int players, int seconds, double messagesPerSecond, LoadScenario scenario,
+                          RenderConfig.Primitive primitive) {
+    }
+
+    /**
+     * Outcome of a run. Latency covers CUI dispatch only, which parses the
+     * message, updates the selection and queues the render; the render runs
+     * later on the render scheduler and shows up in the render phases of
+     * {@code /wedisplay stats}. Renders and entities are server-wide deltas
+     * over the run, so they include real players rendering at the same time.
+     */
+    public record Result(Options options, long messages, long failures, long elapsedMillis,
+                         double messagesPerSecond, long renders, long entities, long packets, long bytes,
+                         long p50Micros, long p95Micros, long p99Micros, long maxMicros,
+                         long allocatedBytesPerSecond) {
+    }
+
+    private static final AtomicInteger RUN_IDS = new AtomicInteger();
+
+    private final WorldEditDisplay plugin;
+    private final Options options;
+    private final Player anchor;
+    private final Location origin;
+
+    private final List<Player> virtualPlayers = new ArrayList<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final RecordingPacketSink sink = new RecordingPacketSink(null, true);
+
+    private final com.sun.management.ThreadMXBean threads;
+
+    public LoadTest(WorldEditDisplay plugin, Player anchor, Options options) {
+        this.plugin = plugin;
+        this.anchor = anchor;
+        this.options = options;
+        this.origin = anchor.getLocation();
+
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        this.threads = bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()
+                ? sunBean : null;
+    }
+
+    /**
+     * Run the test on its own threads; blocks the calling thread until it ends
+     */
+    public Result run() throws InterruptedException {
+        int runId = RUN_IDS.incrementAndGet();
+        for (int i = 0; i < options.players(); i++) {
+            UUID uuid = UUID.nameUUIDFromBytes(("worldeditdisplay-loadtest-" + runId + "-" + i).getBytes());
+            Player player = VirtualPlayer.create(anchor, uuid, "loadtest-" + i);
+            plugin.getRenderManager().setPacketSink(uuid, sink);
+            // virtual players never join, so nothing turns rendering on for them
+            PlayerData.getPlayerData(player).setRenderingEnabled(true);
+            if (options.primitive() != null) {
+                plugin.getRenderManager().setRenderConfig(uuid, plugin.getRenderManager().getRenderConfig().withPrimitive(options.primitive()));
+            }
+            virtualPlayers.add(player);
+        }
+
+        RenderMetrics metrics = plugin.getRenderMetrics();
+        long renders = metrics != null ? metrics.getRendersCompleted() : 0;
+        long entities = metrics != null ? metrics.getEntitiesSpawned() : 0;
+
+        int workers = Math.max(1, Math.min(options.players(), Runtime.getRuntime().availableProcessors()));
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(workers, threadFactory(runId));
+        long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.messagesPerSecond());
+
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < virtualPlayers.size(); i++) {
+                Player player = virtualPlayers.get(i);
+                Random random = new Random(i);
+                // spread players out so their selections don't overlap
+                int x = origin.getBlockX() + (i % 16) * 64;
+                int z = origin.getBlockZ() + (i / 16) * 64;
+                Emitter emitter = new Emitter(player, random, x, origin.getBlockY(), z);
+                // stagger the start so players don't all fire in the same instant
+                executor.scheduleAtFixedRate(emitter, periodNanos * i / virtualPlayers.size(), periodNanos, TimeUnit.NANOSECONDS);
+            }
+            TimeUnit.SECONDS.sleep(options.seconds());
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        cleanup();
+
+        long count = messages.sum();
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new Result(options, count, failures.sum(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                count / seconds,
+                metrics != null ? metrics.getRendersCompleted() - renders : 0,
+                metrics != null ? metrics.getEntitiesSpawned() - entities : 0,
+                sink.getPackets(), sink.getBytes(),
+                latency.getP50Micros(), latency.getP95Micros(), latency.getP99Micros(), latency.getMaxMicros(),
+                threads != null ? (long) (allocatedBytes.sum() / seconds) : -1);
+    }
+
+    /**
+     * Run asynchronously and hand the result to the callback on the main thread
+     */
+    public void runAsync(Consumer<Result> callback, Consumer<Exception> onError) {
+        plugin.getTaskScheduler().runAsync(() -> {
+            try {
+                Result result = run();
+                if (plugin.isEnabled()) plugin.getTaskScheduler().runGlobal(() -> callback.accept(result));
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Load test failed", e);
+                cleanup();
+                if (plugin.isEnabled()) plugin.getTaskScheduler().runGlobal(() -> onError.accept(e));
+            }
+        });
+    }
+
+    private void cleanup() {
+        for (Player player : virtualPlayers) {
+            UUID uuid = player.getUniqueId();
+            plugin.getRenderManager().forgetPlayer(uuid);
+            plugin.getRenderManager().removePacketSink(uuid);
+            plugin.getRenderManager().removeRenderConfig(uuid);
+            plugin.getPlayerSettingsManager().unloadSettings(uuid);
+            PlayerData.removePlayerData(uuid);
+        }
+        virtualPlayers.clear();
+    }
+
+    private ThreadFactory threadFactory(int runId) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "WorldEditDisplay-LoadTest-" + runId + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Sends the next message of one virtual player; never runs concurrently with itself
+     */
+    private final class Emitter implements Runnable {
+
+        private final Player player;
+        private final Random random;
+        private final int x, y, z;
+        private List<String> sequence = List.of();
+        private int index;
+
+        Emitter(Player player, Random random, int x, int y, int z) {
+            this.player = player;
+            this.random = random;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        @Override
+        public void run() {
+            if (index >= sequence.size()) {
+                sequence = options.scenario().sequence(random, x, y, z);
+                index = 0;
+            }
+            String raw = sequence.get(index++);
+
+            long allocStart = threads != null ? threads.getCurrentThreadAllocatedBytes() : 0;
+            long start = System.nanoTime();
+            try {
+                PlayerData playerData = PlayerData.getPlayerData(player);
+                CUIMessage message = CUIMessage.parse(raw);
+                playerData.getDispatcher().raiseEvent(new CUIEventArgs(playerData, message.multi(), message.type(), message.params()));
+            } catch (Exception e) {
+                // an exception would cancel the periodic task
+                failures.increment();
+            }
+            latency.record(System.nanoTime() - start);
+            if (threads != null) allocatedBytes.add(threads.getCurrentThreadAllocatedBytes() - allocStart);
+            messages.increment();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package dev.twme.worldeditdisplay.loadtest;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Creates stand-in players for load tests.
+ *
+ * A virtual player has its own UUID and name, so it gets its own
+ * PlayerData, settings and renderers; everything else (world, location)
+ * comes from a real anchor player. Its packets must go to a non-network
+ * sink, see RenderManager#setPacketSink(UUID, PacketSink).
+ */
+final class VirtualPlayer {
+
+    private VirtualPlayer() {
+    }
+
+    static Player create(Player anchor, UUID uuid, String name) {
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[] {Player.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getUniqueId" -> uuid;
+                    case "getName" -> name;
+                    case "isOnline" -> true;
+                    case "hasPermission" -> true;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> uuid.hashCode();
+                    case "toString" -> "VirtualPlayer{" + name + "}";
+                    default -> {
+                        try {
+                            yield method.invoke(anchor, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                });
+    }
+}
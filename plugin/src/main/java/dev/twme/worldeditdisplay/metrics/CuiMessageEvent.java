@@ -0,0 +1,35 @@
+package dev.twme.worldeditdisplay.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one intercepted CUI message, from parse to the end of dispatch
+ */
+@Name("dev.twme.worldeditdisplay.CuiMessage")
+@Label("CUI Message")
+@Category({"WorldEditDisplay", "CUI"})
+@Description("A WorldEdit CUI message handled by the plugin")
+@StackTrace(false)
+public class CuiMessageEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("Type")
+    public String type;
+
+    @Label("Multi")
+    public boolean multi;
+
+    @Label("Parameters")
+    public int parameters;
+
+    @Label("Parse Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long parseTime;
+}
@@ -0,0 +1,21 @@
+package dev.twme.worldeditdisplay.metrics;
+
+/**
+ * JMX view of a single phase latency histogram (times in microseconds)
+ */
+public interface LatencyHistogramMBean {
+
+    long getCount();
+
+    double getMeanMicros();
+
+    long getMaxMicros();
+
+    long getP50Micros();
+
+    long getP95Micros();
+
+    long getP99Micros();
+
+    void reset();
+}
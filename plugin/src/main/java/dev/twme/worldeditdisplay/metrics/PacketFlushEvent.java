@@ -0,0 +1,29 @@
+package dev.twme.worldeditdisplay.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a batch of display entity packets sent to one player
+ */
+@Name("dev.twme.worldeditdisplay.PacketFlush")
+@Label("Packet Flush")
+@Category({"WorldEditDisplay", "Network"})
+@Description("Display entity packets sent to a player")
+@StackTrace(false)
+public class PacketFlushEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("Packets")
+    public int packets;
+
+    @Label("Bytes")
+    @DataAmount(DataAmount.BYTES)
+    public long bytes;
+}
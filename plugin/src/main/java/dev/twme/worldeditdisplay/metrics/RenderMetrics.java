@@ -0,0 +1,200 @@
+package dev.twme.worldeditdisplay.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+
+/**
+ * Counters and phase latency histograms for the render pipeline.
+ *
+ * All recording methods are lock-free and safe to call from Netty and
+ * server threads. Exposed over JMX under dev.twme.worldeditdisplay and
+ * through /wedisplay stats.
+ */
+public class RenderMetrics implements RenderMetricsMBean {
+
+    private static final String DOMAIN = "dev.twme.worldeditdisplay";
+
+    private final WorldEditDisplay plugin;
+    private final Map<RenderPhase, LatencyHistogram> phases = new EnumMap<>(RenderPhase.class);
+    private final List<ObjectName> registered = new ArrayList<>();
+
+    private final LongAdder rendersCompleted = new LongAdder();
+    private final LongAdder rendersSkipped = new LongAdder();
+    private final LongAdder rendersCoalesced = new LongAdder();
+    private final LongAdder entitiesSpawned = new LongAdder();
+    private final LongAdder entitiesDestroyed = new LongAdder();
+    private final LongAdder entitiesUpdated = new LongAdder();
+    private final LongAdder packetsSent = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder cuiMessages = new LongAdder();
+    private final LongAdder cuiParseFailures = new LongAdder();
+
+    public RenderMetrics(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+        for (RenderPhase phase : RenderPhase.values()) {
+            phases.put(phase, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Register the MBeans on the platform MBean server
+     */
+    public void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            registerBean(server, new ObjectName(DOMAIN + ":type=RenderMetrics"), this);
+            for (Map.Entry<RenderPhase, LatencyHistogram> entry : phases.entrySet()) {
+                registerBean(server, new ObjectName(DOMAIN + ":type=RenderPhase,name=" + entry.getKey().getKey()), entry.getValue());
+            }
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to register render metrics MBeans", e);
+        }
+    }
+
+    private void registerBean(MBeanServer server, ObjectName name, Object bean) throws Exception {
+        // left over from a previous enable (e.g. plugin reloaders)
+        if (server.isRegistered(name)) server.unregisterMBean(name);
+        server.registerMBean(bean, name);
+        registered.add(name);
+    }
+
+    /**
+     * Remove the MBeans registered by this instance
+     */
+    public void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registered) {
+            try {
+                if (server.isRegistered(name)) server.unregisterMBean(name);
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.FINE, "Failed to unregister " + name, e);
+            }
+        }
+        registered.clear();
+    }
+
+    public void recordPhase(RenderPhase phase, long nanos) {
+        phases.get(phase).record(nanos);
+    }
+
+    public LatencyHistogram getPhase(RenderPhase phase) {
+        return phases.get(phase);
+    }
+
+    public void recordRenderCompleted() {
+        rendersCompleted.increment();
+    }
+
+    public void recordRenderSkipped() {
+        rendersSkipped.increment();
+    }
+
+    public void recordRenderCoalesced() {
+        rendersCoalesced.increment();
+    }
+
+    public void recordEntitiesSpawned(int count) {
+        entitiesSpawned.add(count);
+    }
+
+    public void recordEntitiesDestroyed(int count) {
+        entitiesDestroyed.add(count);
+    }
+
+    public void recordEntitiesUpdated(int count) {
+        entitiesUpdated.add(count);
+    }
+
+    public void recordPackets(int packets, long bytes) {
+        packetsSent.add(packets);
+        bytesSent.add(bytes);
+    }
+
+    public void recordCuiMessage() {
+        cuiMessages.increment();
+    }
+
+    public void recordCuiParseFailure() {
+        cuiParseFailures.increment();
+    }
+
+    @Override
+    public long getRendersCompleted() {
+        return rendersCompleted.sum();
+    }
+
+    @Override
+    public long getRendersSkipped() {
+        return rendersSkipped.sum();
+    }
+
+    @Override
+    public long getRendersCoalesced() {
+        return rendersCoalesced.sum();
+    }
+
+    @Override
+    public long getEntitiesSpawned() {
+        return entitiesSpawned.sum();
+    }
+
+    @Override
+    public long getEntitiesDestroyed() {
+        return entitiesDestroyed.sum();
+    }
+
+    @Override
+    public long getEntitiesUpdated() {
+        return entitiesUpdated.sum();
+    }
+
+    @Override
+    public long getPacketsSent() {
+        return packetsSent.sum();
+    }
+
+    @Override
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    @Override
+    public long getCuiMessages() {
+        return cuiMessages.sum();
+    }
+
+    @Override
+    public long getCuiParseFailures() {
+        return cuiParseFailures.sum();
+    }
+
+    @Override
+    public int getActiveRenders() {
+        return plugin.getRenderManager() != null ? plugin.getRenderManager().getActiveRenderCount() : 0;
+    }
+
+    @Override
+    public void reset() {
+        phases.values().forEach(LatencyHistogram::reset);
+        rendersCompleted.reset();
+        rendersSkipped.reset();
+        rendersCoalesced.reset();
+        entitiesSpawned.reset();
+        entitiesDestroyed.reset();
+        entitiesUpdated.reset();
+        packetsSent.reset();
+        bytesSent.reset();
+        cuiMessages.reset();
+        cuiParseFailures.reset();
+    }
+}
@@ -0,0 +1,31 @@
+package dev.twme.worldeditdisplay.metrics;
+
+/**
+ * JMX view of the render pipeline counters
+ */
+public interface RenderMetricsMBean {
+
+    long getRendersCompleted();
+
+    long getRendersSkipped();
+
+    long getRendersCoalesced();
+
+    long getEntitiesSpawned();
+
+    long getEntitiesDestroyed();
+
+    long getEntitiesUpdated();
+
+    long getPacketsSent();
+
+    long getBytesSent();
+
+    long getCuiMessages();
+
+    long getCuiParseFailures();
+
+    int getActiveRenders();
+
+    void reset();
+}
@@ -0,0 +1,35 @@
+package dev.twme.worldeditdisplay.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one renderer pass (clear, geometry and entity spawn)
+ */
+@Name("dev.twme.worldeditdisplay.RenderPass")
+@Label("Render Pass")
+@Category({"WorldEditDisplay", "Render"})
+@Description("A region re-rendered for one player")
+@StackTrace(false)
+public class RenderPassEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("Region Type")
+    public String regionType;
+
+    @Label("Multi Selection")
+    public boolean multi;
+
+    @Label("Primitives")
+    @Description("Display entities spawned by this pass")
+    public int primitives;
+
+    @Label("Entity Delta")
+    @Description("Entities after the pass minus entities before it")
+    public int entityDelta;
+}
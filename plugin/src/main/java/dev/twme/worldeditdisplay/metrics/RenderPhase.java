@@ -0,0 +1,22 @@
+package dev.twme.worldeditdisplay.metrics;
+
+/**
+ * Phases of the CUI to display entity pipeline that are timed separately
+ */
+public enum RenderPhase {
+    PARSE("parse"),
+    EVENT_APPLY("event_apply"),
+    QUEUE_WAIT("queue_wait"),
+    GEOMETRY("geometry"),
+    PACKET_EMIT("packet_emit");
+
+    private final String key;
+
+    RenderPhase(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,97 @@
+package dev.twme.worldeditdisplay.metrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.entity.Player;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.config.ResolvedRenderSettings;
+import dev.twme.worldeditdisplay.region.Region;
+import dev.twme.worldeditdisplay.trace.CuiTraceManager;
+import dev.twme.worldeditdisplay.trace.RegionSnapshot;
+
+/**
+ * Logs render passes slower than metrics.slow_render.threshold_ms with
+ * enough context to reproduce them, and optionally dumps the region as a
+ * CUI trace that /wedisplaytrace replay can feed back in.
+ */
+public class SlowRenderDetector {
+
+    private static final long DEFAULT_THRESHOLD_MS = 50;
+    private static final long DEFAULT_DUMP_COOLDOWN_SECONDS = 60;
+
+    private final WorldEditDisplay plugin;
+    private final long thresholdNanos;
+    private final boolean dump;
+    private final long dumpCooldownNanos;
+
+    // last dump per player, keeps a slow region from writing a file every pass
+    private final Map<UUID, Long> lastDump = new ConcurrentHashMap<>();
+
+    public SlowRenderDetector(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(
+                plugin.getConfig().getLong("metrics.slow_render.threshold_ms", DEFAULT_THRESHOLD_MS));
+        this.dump = plugin.getConfig().getBoolean("metrics.slow_render.dump", false);
+        this.dumpCooldownNanos = TimeUnit.SECONDS.toNanos(
+                plugin.getConfig().getLong("metrics.slow_render.dump_cooldown_seconds", DEFAULT_DUMP_COOLDOWN_SECONDS));
+    }
+
+    public boolean isEnabled() {
+        return thresholdNanos > 0;
+    }
+
+    /**
+     * Check a finished render pass
+     *
+     * @param nanos wall time of the pass
+     * @param primitives display entities spawned by the pass
+     */
+    public void check(Player player, Region region, boolean multi, ResolvedRenderSettings resolved, int primitives, long nanos) {
+        if (!isEnabled() || nanos < thresholdNanos) return;
+
+        StringBuilder message = new StringBuilder()
+                .append("Slow render: ").append(player.getName())
+                .append(" took ").append(String.format("%.2f", nanos / 1_000_000.0)).append(" ms")
+                .append(" (threshold ").append(TimeUnit.NANOSECONDS.toMillis(thresholdNanos)).append(" ms)\n")
+                .append("  Type: ").append(region.getType().getKey()).append(multi ? " (multi)" : "").append('\n')
+                .append("  Primitives: ").append(primitives).append('\n')
+                .append("  Grid spacing: ").append(region.getGridSpacing()).append('\n')
+                .append(region.getInfo()).append('\n')
+                .append("  Settings: ").append(resolved.valuesFor(region.getType()));
+
+        if (dump) {
+            Path file = dump(player, region);
+            if (file != null) message.append("\n  Dumped to traces/").append(file.getFileName());
+        }
+        plugin.getLogger().warning(message.toString());
+    }
+
+    private Path dump(Player player, Region region) {
+        CuiTraceManager traces = plugin.getCuiTraceManager();
+        if (traces == null) return null;
+
+        long now = System.nanoTime();
+        Long last = lastDump.get(player.getUniqueId());
+        if (last != null && now - last < dumpCooldownNanos) return null;
+        lastDump.put(player.getUniqueId(), now);
+
+        List<String> messages = RegionSnapshot.toCuiMessages(region);
+        try {
+            return traces.writeTrace(player.getName(), "slow", messages);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to dump slow render for " + player.getName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public void forget(UUID uuid) {
+        lastDump.remove(uuid);
+    }
+}
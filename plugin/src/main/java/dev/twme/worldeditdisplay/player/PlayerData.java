@@ -3,6 +3,7 @@ package dev.twme.worldeditdisplay.player;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.entity.Player;
 
@@ -13,29 +14,34 @@ import dev.twme.worldeditdisplay.region.RegionType;
 /**
  * Stores all per-player CUI / WorldEditDisplay state.
  * Tracks current region selection(s), colors, rendering, and mode.
+ *
+ * CUI events are applied on the Netty thread while renders run on the
+ * player's (region) thread; both hold {@link #getLock()} while touching
+ * the regions so a render never sees a half applied event.
  */
 public class PlayerData {
-    private static final Map<UUID, PlayerData> playerDataMap = new HashMap<>();
+    private static final Map<UUID, PlayerData> playerDataMap = new ConcurrentHashMap<>();
 
     private final Player player;
     private final CUIEventDispatcher dispatcher;
-    private boolean isCuiEnabled = false;
-    private boolean renderingEnabled = false; // default off; will enable on login if player has permission
+    private final Object lock = new Object();
+    private volatile boolean isCuiEnabled = false;
+    private volatile boolean renderingEnabled = false; // default off; will enable on login if player has permission
 
     // Current single selection
-    private Region currentRegion;
+    private volatile Region currentRegion;
 
     // Multi-selection regions
-    private final Map<UUID, Region> multiRegions = new HashMap<>();
-    private UUID currentMultiRegionId; // tracks which multi-region the player is currently editing
+    private final Map<UUID, Region> multiRegions = new ConcurrentHashMap<>();
+    private volatile UUID currentMultiRegionId; // tracks which multi-region the player is currently editing
 
     // Color settings
-    private String primaryColor;
-    private String secondaryColor;
-    private String gridColor;
-    private String backgroundColor;
-    private boolean gridEnabled = true;
-    private boolean backgroundEnabled = true;
+    private volatile String primaryColor;
+    private volatile String secondaryColor;
+    private volatile String gridColor;
+    private volatile String backgroundColor;
+    private volatile boolean gridEnabled = true;
+    private volatile boolean backgroundEnabled = true;
 
     public PlayerData(Player player) {
         this.player = player;
@@ -64,6 +70,13 @@ public class PlayerData {
         return dispatcher;
     }
 
+    /**
+     * Held while applying CUI events and while rendering this player's regions
+     */
+    public Object getLock() {
+        return lock;
+    }
+
     public boolean isCuiEnabled() {
         return isCuiEnabled;
     }
@@ -0,0 +1,224 @@
+package dev.twme.worldeditdisplay.resourcepack;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.imageio.ImageIO;
+
+import org.bukkit.Color;
+import org.bukkit.Material;
+
+import com.github.retrooper.packetevents.protocol.component.ComponentTypes;
+import com.github.retrooper.packetevents.protocol.component.builtin.item.ItemDyeColor;
+import com.github.retrooper.packetevents.protocol.item.ItemStack;
+import com.github.retrooper.packetevents.protocol.item.type.ItemTypes;
+import com.github.retrooper.packetevents.resources.ResourceLocation;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.common.ColorMatcher;
+
+/**
+ * Generates the resource pack used by cuboid face mode.
+ *
+ * For every cell count from 2 to max_cells the pack holds flat item
+ * models with a thin element on each inner cell border. Scaled to
+ * cells * spacing it draws all grid lines of one direction on a face with a
+ * single display entity; nothing is drawn past the face edge. The elements
+ * are white and tinted with the item's dyed colour, so the grid keeps the
+ * colour of its material.
+ *
+ * A stripe is drawn spacing * fraction thick, where fraction is its share
+ * of a cell. Each cell count comes in stripe widths halving from a quarter
+ * of a cell, and the renderer picks the one closest to the configured grid
+ * thickness, off by at most a factor of 1.42 for spacings between 3 and
+ * about 10000 times the thickness. Grids where even the closest width is
+ * off by more than max_thickness_ratio are drawn as lines instead.
+ *
+ * The pack is written to resourcepack/ for servers to merge into the pack
+ * they already send; clients without it see plain leather horse armour.
+ */
+public class GridResourcePack {
+
+    public static final String NAMESPACE = "worldeditdisplay";
+    public static final String FILE_NAME = "worldeditdisplay-grid.zip";
+
+    // resource pack format of 1.21.9 and 1.21.10
+    private static final int PACK_FORMAT = 69;
+    private static final int DEFAULT_MAX_CELLS = 32;
+    private static final double DEFAULT_MAX_THICKNESS_RATIO = 2.0;
+
+    // stripe widths as a share of a cell, 1/4 halving down to 1/8192; thinner
+    // ones would fall below what float model coordinates resolve
+    private static final double WIDEST_STRIPE = 0.25;
+    private static final int STRIPE_WIDTHS = 12;
+    private static final String TEXTURE = "grid_stripe";
+
+    private final WorldEditDisplay plugin;
+    private final int maxCells;
+    private final double maxThicknessRatio;
+    private final Path file;
+    private final Map<ItemKey, ItemStack> items = new ConcurrentHashMap<>();
+
+    private record ItemKey(int cells, int stripeWidth, Material material) {
+    }
+
+    public GridResourcePack(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+        this.maxCells = Math.max(2, plugin.getConfig().getInt("render.face_mode.max_cells", DEFAULT_MAX_CELLS));
+        this.maxThicknessRatio = Math.max(1.0, plugin.getConfig().getDouble("render.face_mode.max_thickness_ratio", DEFAULT_MAX_THICKNESS_RATIO));
+        this.file = plugin.getDataFolder().toPath().resolve("resourcepack").resolve(FILE_NAME);
+    }
+
+    /**
+     * Write the pack and log its SHA-1 for server.properties
+     */
+    public void generate() throws IOException {
+        Files.createDirectories(file.getParent());
+        MessageDigest sha1;
+        try {
+            sha1 = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+
+        try (OutputStream out = new DigestOutputStream(Files.newOutputStream(file), sha1);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            write(zip, "pack.mcmeta", "{\"pack\":{\"description\":\"WorldEditDisplay cuboid grid faces\","
+                    + "\"pack_format\":" + PACK_FORMAT + ",\"min_format\":" + PACK_FORMAT + ",\"max_format\":" + PACK_FORMAT + "}}");
+
+            writeTexture(zip, "assets/" + NAMESPACE + "/textures/item/" + TEXTURE + ".png");
+            for (int cells = 2; cells <= maxCells; cells++) {
+                for (int stripeWidth = 0; stripeWidth < STRIPE_WIDTHS; stripeWidth++) {
+                    String name = modelName(cells, stripeWidth);
+                    write(zip, "assets/" + NAMESPACE + "/items/" + name + ".json",
+                            "{\"model\":{\"type\":\"minecraft:model\",\"model\":\"" + NAMESPACE + ":item/" + name + "\","
+                                    + "\"tints\":[{\"type\":\"minecraft:dye\",\"default\":-1}]}}");
+                    write(zip, "assets/" + NAMESPACE + "/models/item/" + name + ".json", model(cells, stripeWidth));
+                }
+            }
+        }
+        plugin.getLogger().info("Generated grid resource pack " + file + " (sha1 " + HexFormat.of().formatHex(sha1.digest()) + ")");
+    }
+
+    private static void write(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private static String modelName(int cells, int stripeWidth) {
+        return "grid_" + cells + "_" + stripeWidth;
+    }
+
+    private static double stripeFraction(int stripeWidth) {
+        return WIDEST_STRIPE / (1 << stripeWidth);
+    }
+
+    /**
+     * A 16 unit square with one white element centred on each inner cell border.
+     * The elements have no depth and show on both sides.
+     */
+    private static String model(int cells, int stripeWidth) {
+        String texture = NAMESPACE + ":item/" + TEXTURE;
+        String face = "{\"uv\":[0,0,16,16],\"texture\":\"#stripe\",\"tintindex\":0}";
+        double cell = 16.0 / cells;
+        double half = cell * stripeFraction(stripeWidth) / 2;
+
+        StringBuilder json = new StringBuilder("{\"textures\":{\"stripe\":\"" + texture + "\",\"particle\":\"" + texture + "\"},\"elements\":[");
+        for (int border = 1; border < cells; border++) {
+            double center = border * cell;
+            if (border > 1) json.append(',');
+            json.append("{\"from\":[").append((float) (center - half)).append(",0,8],")
+                    .append("\"to\":[").append((float) (center + half)).append(",16,8],\"shade\":false,")
+                    .append("\"faces\":{\"north\":").append(face).append(",\"south\":").append(face).append("}}");
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Plain white texture, tinted per item
+     */
+    private static void writeTexture(ZipOutputStream zip, String name) throws IOException {
+        BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < 16; x++) {
+            for (int y = 0; y < 16; y++) {
+                image.setRGB(x, y, 0xFFFFFFFF);
+            }
+        }
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(png.toByteArray());
+        zip.closeEntry();
+    }
+
+    /**
+     * Whether the other pack was generated with the same cell count and thickness ratio
+     */
+    public boolean hasSameSettings(GridResourcePack other) {
+        return other != null && other.maxCells == maxCells && other.maxThicknessRatio == maxThicknessRatio;
+    }
+
+    /**
+     * Largest cell count a single face entity can draw
+     */
+    public int getMaxCells() {
+        return maxCells;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Stripe width whose drawn thickness at this spacing is closest to the
+     * wanted thickness
+     *
+     * @return index of the stripe width, or -1 if even the closest is off by
+     *         more than max_thickness_ratio and the grid should be drawn as lines
+     */
+    public int stripeWidth(double spacing, double thickness) {
+        if (spacing <= 0 || thickness <= 0) return -1;
+
+        // widths halve with each index, so the closest one is nearest in log2
+        int width = (int) Math.round(Math.log(WIDEST_STRIPE * spacing / thickness) / Math.log(2));
+        width = Math.max(0, Math.min(STRIPE_WIDTHS - 1, width));
+
+        double drawn = spacing * stripeFraction(width);
+        double ratio = Math.max(drawn / thickness, thickness / drawn);
+        return ratio <= maxThicknessRatio ? width : -1;
+    }
+
+    /**
+     * Item showing the stripe model for the given cell count and stripe width,
+     * tinted with the material's map colour
+     */
+    public ItemStack item(int cells, int stripeWidth, Material material) {
+        return items.computeIfAbsent(new ItemKey(cells, stripeWidth, material), key -> ItemStack.builder()
+                .type(ItemTypes.LEATHER_HORSE_ARMOR)
+                .amount(1)
+                .component(ComponentTypes.ITEM_MODEL, new ResourceLocation(NAMESPACE, modelName(cells, stripeWidth)))
+                .component(ComponentTypes.DYED_COLOR, new ItemDyeColor(colorOf(material).asRGB(), false))
+                .build());
+    }
+
+    private static Color colorOf(Material material) {
+        Color color = ColorMatcher.getMaterialColor(material);
+        if (color != null) return color;
+        return material.isBlock() ? material.createBlockData().getMapColor() : Color.WHITE;
+    }
+}
@@ -0,0 +1,80 @@
+package dev.twme.worldeditdisplay.scheduler;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+
+/**
+ * Paper and Spigot: everything that is not async runs on the main thread
+ */
+public class BukkitTaskScheduler implements TaskScheduler {
+
+    private final WorldEditDisplay plugin;
+    private final BukkitScheduler scheduler;
+
+    public BukkitTaskScheduler(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+        this.scheduler = plugin.getServer().getScheduler();
+    }
+
+    @Override
+    public boolean isRegionThreaded() {
+        return false;
+    }
+
+    @Override
+    public TaskHandle runGlobal(Runnable task) {
+        return wrap(scheduler.runTask(plugin, task));
+    }
+
+    @Override
+    public TaskHandle runGlobalLater(Runnable task, long delay) {
+        return wrap(scheduler.runTaskLater(plugin, task, delay));
+    }
+
+    @Override
+    public TaskHandle runGlobalTimer(Runnable task, long delay, long period) {
+        return wrap(scheduler.runTaskTimer(plugin, task, delay, period));
+    }
+
+    @Override
+    public TaskHandle runAsync(Runnable task) {
+        return wrap(scheduler.runTaskAsynchronously(plugin, task));
+    }
+
+    @Override
+    public TaskHandle runAsyncTimer(Runnable task, long delay, long period) {
+        return wrap(scheduler.runTaskTimerAsynchronously(plugin, task, delay, period));
+    }
+
+    @Override
+    public TaskHandle runForEntity(Entity entity, Runnable task) {
+        return runGlobal(task);
+    }
+
+    @Override
+    public TaskHandle runForEntityLater(Entity entity, Runnable task, long delay) {
+        return runGlobalLater(task, delay);
+    }
+
+    @Override
+    public void cancelAll() {
+        scheduler.cancelTasks(plugin);
+    }
+
+    private static TaskHandle wrap(BukkitTask task) {
+        return new TaskHandle() {
+            @Override
+            public void cancel() {
+                task.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return task.isCancelled();
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package dev.twme.worldeditdisplay.scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.entity.Entity;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+
+/**
+ * Folia: global region scheduler, async scheduler and per-entity schedulers
+ */
+public class FoliaTaskScheduler implements TaskScheduler {
+
+    // Folia schedulers take wall time for async tasks
+    private static final long MILLIS_PER_TICK = 50;
+
+    private final WorldEditDisplay plugin;
+
+    public FoliaTaskScheduler(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean isRegionThreaded() {
+        return true;
+    }
+
+    @Override
+    public TaskHandle runGlobal(Runnable task) {
+        return wrap(plugin.getServer().getGlobalRegionScheduler().run(plugin, scheduled -> task.run()));
+    }
+
+    @Override
+    public TaskHandle runGlobalLater(Runnable task, long delay) {
+        return wrap(plugin.getServer().getGlobalRegionScheduler()
+                .runDelayed(plugin, scheduled -> task.run(), Math.max(1, delay)));
+    }
+
+    @Override
+    public TaskHandle runGlobalTimer(Runnable task, long delay, long period) {
+        return wrap(plugin.getServer().getGlobalRegionScheduler()
+                .runAtFixedRate(plugin, scheduled -> task.run(), Math.max(1, delay), Math.max(1, period)));
+    }
+
+    @Override
+    public TaskHandle runAsync(Runnable task) {
+        return wrap(plugin.getServer().getAsyncScheduler().runNow(plugin, scheduled -> task.run()));
+    }
+
+    @Override
+    public TaskHandle runAsyncTimer(Runnable task, long delay, long period) {
+        return wrap(plugin.getServer().getAsyncScheduler().runAtFixedRate(plugin, scheduled -> task.run(),
+                Math.max(0, delay) * MILLIS_PER_TICK, Math.max(1, period) * MILLIS_PER_TICK, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public TaskHandle runForEntity(Entity entity, Runnable task) {
+        ScheduledTask scheduled = entity.getScheduler().run(plugin, ignored -> task.run(), null);
+        return scheduled == null ? null : wrap(scheduled);
+    }
+
+    @Override
+    public TaskHandle runForEntityLater(Entity entity, Runnable task, long delay) {
+        ScheduledTask scheduled = entity.getScheduler().runDelayed(plugin, ignored -> task.run(), null, Math.max(1, delay));
+        return scheduled == null ? null : wrap(scheduled);
+    }
+
+    @Override
+    public void cancelAll() {
+        plugin.getServer().getGlobalRegionScheduler().cancelTasks(plugin);
+        plugin.getServer().getAsyncScheduler().cancelTasks(plugin);
+    }
+
+    private static TaskHandle wrap(ScheduledTask task) {
+        return new TaskHandle() {
+            @Override
+            public void cancel() {
+                task.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return task.isCancelled();
+            }
+        };
+    }
+}
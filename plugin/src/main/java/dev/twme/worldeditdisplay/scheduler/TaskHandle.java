@@ -0,0 +1,11 @@
+package dev.twme.worldeditdisplay.scheduler;
+
+/**
+ * A scheduled task that can be cancelled, independent of the platform scheduler
+ */
+public interface TaskHandle {
+
+    void cancel();
+
+    boolean isCancelled();
+}
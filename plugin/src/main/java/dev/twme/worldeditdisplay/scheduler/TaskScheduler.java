@@ -0,0 +1,66 @@
+package dev.twme.worldeditdisplay.scheduler;
+
+import org.bukkit.entity.Entity;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+
+/**
+ * Schedules plugin work on the right threads for the running server.
+ *
+ * On Paper "global" is the main thread and entity tasks run there too.
+ * On Folia global tasks run on the global region thread, entity tasks on
+ * the thread owning the entity's region, and the Bukkit scheduler is not
+ * available at all. Delays and periods are in ticks.
+ */
+public interface TaskScheduler {
+
+    /**
+     * Pick the implementation for the running server
+     */
+    static TaskScheduler create(WorldEditDisplay plugin) {
+        return isFolia() ? new FoliaTaskScheduler(plugin) : new BukkitTaskScheduler(plugin);
+    }
+
+    static boolean isFolia() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Whether entity tasks may run on a different thread than global tasks
+     */
+    boolean isRegionThreaded();
+
+    TaskHandle runGlobal(Runnable task);
+
+    TaskHandle runGlobalLater(Runnable task, long delay);
+
+    TaskHandle runGlobalTimer(Runnable task, long delay, long period);
+
+    TaskHandle runAsync(Runnable task);
+
+    TaskHandle runAsyncTimer(Runnable task, long delay, long period);
+
+    /**
+     * Run on the thread that owns the entity
+     *
+     * @return the task, or null if the entity has been removed
+     */
+    TaskHandle runForEntity(Entity entity, Runnable task);
+
+    /**
+     * Run on the thread that owns the entity after a delay
+     *
+     * @return the task, or null if the entity has been removed
+     */
+    TaskHandle runForEntityLater(Entity entity, Runnable task, long delay);
+
+    /**
+     * Cancel everything this plugin scheduled
+     */
+    void cancelAll();
+}
@@ -0,0 +1,92 @@
+package dev.twme.worldeditdisplay.trace;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A recorded stream of CUI messages for one player.
+ *
+ * File layout (big endian):
+ *   int magic "WEDT", byte version, long start time (epoch millis), UTF player name
+ *   then per message: varlong micros since the previous message, varint length, raw message bytes
+ *
+ * @param startedAt epoch millis when recording started
+ * @param playerName name of the recorded player
+ * @param entries messages in the order they were sent
+ */
+public record CuiTrace(long startedAt, String playerName, List<Entry> entries) {
+
+    static final int MAGIC = 0x57454454;
+    static final int VERSION = 1;
+
+    // a CUI plugin message never comes close to this
+    private static final int MAX_MESSAGE_SIZE = 1 << 16;
+
+    /**
+     * @param offsetMicros time since the start of the recording
+     * @param message raw CUI plugin message payload
+     */
+    public record Entry(long offsetMicros, byte[] message) {
+    }
+
+    /**
+     * Length of the trace in microseconds
+     */
+    public long durationMicros() {
+        return entries.isEmpty() ? 0 : entries.get(entries.size() - 1).offsetMicros();
+    }
+
+    public static CuiTrace read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException("Not a CUI trace: " + file.getFileName());
+            int version = in.readUnsignedByte();
+            if (version != VERSION) throw new IOException("Unsupported CUI trace version " + version);
+
+            long startedAt = in.readLong();
+            String playerName = in.readUTF();
+
+            List<Entry> entries = new ArrayList<>();
+            long offset = 0;
+            while (true) {
+                long delta;
+                try {
+                    delta = readVarLong(in);
+                } catch (EOFException e) {
+                    break;
+                }
+
+                int length = (int) readVarLong(in);
+                if (length < 0 || length > MAX_MESSAGE_SIZE) throw new IOException("Corrupt CUI trace record length " + length);
+
+                byte[] message = new byte[length];
+                try {
+                    in.readFully(message);
+                } catch (EOFException e) {
+                    // recording was cut off mid record, keep what is complete
+                    break;
+                }
+                offset += delta;
+                entries.add(new Entry(offset, message));
+            }
+            return new CuiTrace(startedAt, playerName, entries);
+        }
+    }
+
+    static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+            shift += 7;
+            if (shift > 63) throw new IOException("Corrupt CUI trace varint");
+        }
+    }
+}
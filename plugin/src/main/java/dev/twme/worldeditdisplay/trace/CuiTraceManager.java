@@ -0,0 +1,233 @@
+package dev.twme.worldeditdisplay.trace;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.bukkit.entity.Player;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.event.CUIEventArgs;
+import dev.twme.worldeditdisplay.event.CUIMessage;
+import dev.twme.worldeditdisplay.metrics.RenderMetrics;
+import dev.twme.worldeditdisplay.player.PlayerData;
+
+/**
+ * Records CUI messages of selected players to trace files and replays
+ * them through a player's dispatcher, so a reported selection stream can
+ * be reproduced and measured.
+ */
+public class CuiTraceManager {
+
+    public static final String EXTENSION = ".cuitrace";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final long SETTLE_TIMEOUT_MILLIS = 10_000;
+    private static final long SETTLE_POLL_MILLIS = 50;
+
+    private final WorldEditDisplay plugin;
+    private final Path directory;
+    private final Map<UUID, CuiTraceWriter> recordings = new ConcurrentHashMap<>();
+    private final Set<UUID> replaying = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Outcome of a replay; render counters are server wide deltas
+     */
+    public record ReplayResult(int messages, long elapsedMillis, long renders, long entities, long packets, long failures) {
+    }
+
+    public CuiTraceManager(WorldEditDisplay plugin) {
+        this.plugin = plugin;
+        this.directory = plugin.getDataFolder().toPath().resolve("traces");
+    }
+
+    /**
+     * Start recording a player's CUI messages
+     *
+     * @return the trace file, or null if the player is already being recorded
+     */
+    public Path startRecording(Player player) throws IOException {
+        if (recordings.containsKey(player.getUniqueId())) return null;
+
+        Files.createDirectories(directory);
+        String name = player.getName() + "-" + LocalDateTime.now().format(FILE_TIME) + EXTENSION;
+        CuiTraceWriter writer = new CuiTraceWriter(directory.resolve(name), player.getName());
+        if (recordings.putIfAbsent(player.getUniqueId(), writer) != null) {
+            writer.close();
+            return null;
+        }
+        return writer.getFile();
+    }
+
+    /**
+     * Stop recording a player
+     *
+     * @return the closed writer, or null if the player was not being recorded
+     */
+    public CuiTraceWriter stopRecording(UUID uuid) {
+        CuiTraceWriter writer = recordings.remove(uuid);
+        if (writer == null) return null;
+
+        try {
+            writer.close();
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to close CUI trace " + writer.getFile().getFileName() + ": " + e.getMessage());
+        }
+        return writer;
+    }
+
+    public boolean isRecording(UUID uuid) {
+        return recordings.containsKey(uuid);
+    }
+
+    /**
+     * Append a message if the player is being recorded; called on the Netty thread
+     */
+    public void record(UUID uuid, byte[] message) {
+        if (recordings.isEmpty()) return;
+        CuiTraceWriter writer = recordings.get(uuid);
+        if (writer == null) return;
+
+        try {
+            writer.write(message);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to write CUI trace, recording stopped: " + e.getMessage());
+            stopRecording(uuid);
+        }
+    }
+
+    /**
+     * Write a finished trace from a list of messages, e.g. a region snapshot
+     *
+     * @param label added to the file name after the player name
+     * @return the trace file
+     */
+    public Path writeTrace(String playerName, String label, List<String> messages) throws IOException {
+        Files.createDirectories(directory);
+        String name = playerName + "-" + label + "-" + LocalDateTime.now().format(FILE_TIME) + EXTENSION;
+        try (CuiTraceWriter writer = new CuiTraceWriter(directory.resolve(name), playerName)) {
+            for (String message : messages) {
+                writer.write(message.getBytes(StandardCharsets.UTF_8));
+            }
+            return writer.getFile();
+        }
+    }
+
+    /**
+     * Trace files in the traces folder, newest name last
+     */
+    public List<String> listTraces() {
+        List<String> names = new ArrayList<>();
+        if (!Files.isDirectory(directory)) return names;
+
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(EXTENSION))
+                    .sorted()
+                    .forEach(names::add);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to list CUI traces: " + e.getMessage());
+        }
+        return names;
+    }
+
+    /**
+     * Resolve a trace name inside the traces folder
+     *
+     * @return the file, or null if the name would leave the folder
+     */
+    public Path resolveTrace(String name) {
+        if (name.contains("/") || name.contains("\\") || name.contains("..")) return null;
+        return directory.resolve(name.endsWith(EXTENSION) ? name : name + EXTENSION);
+    }
+
+    public boolean isReplaying(UUID uuid) {
+        return replaying.contains(uuid);
+    }
+
+    /**
+     * Feed a trace through the target's dispatcher on an async thread.
+     * Live CUI messages for the target are dropped until the replay ends.
+     * The result is taken once the target's queued renders and progressive
+     * spawns have finished, or after a timeout.
+     *
+     * @param speed time scale, 2 replays twice as fast, 0 or less sends without waiting
+     * @param callback receives the result on the main thread
+     * @return false if a replay for the target is already running
+     */
+    public boolean replay(Player target, CuiTrace trace, double speed, Consumer<ReplayResult> callback) {
+        UUID uuid = target.getUniqueId();
+        if (!replaying.add(uuid)) return false;
+
+        plugin.getTaskScheduler().runAsync(() -> {
+            RenderMetrics metrics = plugin.getRenderMetrics();
+            long renders = metrics != null ? metrics.getRendersCompleted() : 0;
+            long entities = metrics != null ? metrics.getEntitiesSpawned() : 0;
+            long packets = metrics != null ? metrics.getPacketsSent() : 0;
+            long failures = metrics != null ? metrics.getCuiParseFailures() : 0;
+
+            long start = System.nanoTime();
+            int sent = 0;
+            try {
+                for (CuiTrace.Entry entry : trace.entries()) {
+                    if (!target.isOnline()) break;
+
+                    if (speed > 0) {
+                        long due = (long) (entry.offsetMicros() * 1000 / speed);
+                        long wait = due - (System.nanoTime() - start);
+                        if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+
+                    PlayerData playerData = PlayerData.getPlayerData(target);
+                    if (playerData == null) break;
+
+                    CUIMessage message = CUIMessage.parse(entry.message());
+                    playerData.getDispatcher().raiseEvent(new CUIEventArgs(playerData, message.multi(), message.type(), message.params()));
+                    sent++;
+                }
+
+                // renders only get queued above, wait for them before taking the deltas
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SETTLE_TIMEOUT_MILLIS);
+                while (target.isOnline() && plugin.getRenderManager().isRenderPending(uuid)
+                        && System.nanoTime() < deadline) {
+                    TimeUnit.MILLISECONDS.sleep(SETTLE_POLL_MILLIS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                replaying.remove(uuid);
+            }
+
+            ReplayResult result = new ReplayResult(sent,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    metrics != null ? metrics.getRendersCompleted() - renders : 0,
+                    metrics != null ? metrics.getEntitiesSpawned() - entities : 0,
+                    metrics != null ? metrics.getPacketsSent() - packets : 0,
+                    metrics != null ? metrics.getCuiParseFailures() - failures : 0);
+            if (plugin.isEnabled()) {
+                plugin.getTaskScheduler().runGlobal(() -> callback.accept(result));
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Close all open recordings
+     */
+    public void shutdown() {
+        for (UUID uuid : new ArrayList<>(recordings.keySet())) {
+            stopRecording(uuid);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package dev.twme.worldeditdisplay.trace;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Appends CUI messages to a trace file, see {@link CuiTrace} for the layout
+ */
+public final class CuiTraceWriter implements Closeable {
+
+    // large enough that the Netty thread rarely hits the disk
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final DataOutputStream out;
+    private final long startNanos;
+    private long lastMicros;
+    private int messages;
+
+    public CuiTraceWriter(Path file, String playerName) throws IOException {
+        this.file = file;
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+        this.startNanos = System.nanoTime();
+
+        out.writeInt(CuiTrace.MAGIC);
+        out.writeByte(CuiTrace.VERSION);
+        out.writeLong(System.currentTimeMillis());
+        out.writeUTF(playerName);
+    }
+
+    public synchronized void write(byte[] message) throws IOException {
+        long micros = (System.nanoTime() - startNanos) / 1000;
+        writeVarLong(micros - lastMicros);
+        writeVarLong(message.length);
+        out.write(message);
+        lastMicros = micros;
+        messages++;
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public synchronized int getMessages() {
+        return messages;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,83 @@
+package dev.twme.worldeditdisplay.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import dev.twme.worldeditdisplay.region.CuboidRegion;
+import dev.twme.worldeditdisplay.region.CylinderRegion;
+import dev.twme.worldeditdisplay.region.EllipsoidRegion;
+import dev.twme.worldeditdisplay.region.PolygonRegion;
+import dev.twme.worldeditdisplay.region.PolyhedronRegion;
+import dev.twme.worldeditdisplay.region.Region;
+import dev.twme.worldeditdisplay.region.Vector2;
+import dev.twme.worldeditdisplay.region.Vector3;
+
+/**
+ * Turns the current state of a region back into the CUI messages that
+ * build it, so it can be written as a trace and replayed.
+ *
+ * Messages build a multi selection, since CUI only sends grid spacing for
+ * those; the id is fixed, so replaying a snapshot again replaces the
+ * selection it made before. Point messages carry an area of 0, the
+ * dispatcher only needs it to be present.
+ */
+public final class RegionSnapshot {
+
+    private static final String PREFIX = "+";
+    private static final UUID SNAPSHOT_ID = UUID.nameUUIDFromBytes("worldeditdisplay-snapshot".getBytes());
+
+    private RegionSnapshot() {
+    }
+
+    public static List<String> toCuiMessages(Region region) {
+        List<String> messages = new ArrayList<>();
+        messages.add("s|" + region.getType().getKey() + "|" + SNAPSHOT_ID);
+        if (region.getGridSpacing() > 0) messages.add("grid|" + region.getGridSpacing());
+
+        if (region instanceof CuboidRegion cuboid) {
+            addPoint(messages, 0, cuboid.getPoint1());
+            addPoint(messages, 1, cuboid.getPoint2());
+        } else if (region instanceof PolygonRegion polygon) {
+            List<Vector2> points = polygon.getPoints();
+            for (int i = 0; i < points.size(); i++) {
+                Vector2 point = points.get(i);
+                if (point != null) messages.add("p2|" + i + "|" + point.getX() + "|" + point.getZ() + "|0");
+            }
+            messages.add("mm|" + polygon.getMinY() + "|" + polygon.getMaxY());
+        } else if (region instanceof EllipsoidRegion ellipsoid) {
+            Vector3 center = ellipsoid.getCenter();
+            Vector3 radii = ellipsoid.getRadii();
+            if (center != null) {
+                messages.add("e|0|" + (int) center.getX() + "|" + (int) center.getY() + "|" + (int) center.getZ());
+            }
+            if (radii != null) {
+                messages.add("e|1|" + radii.getX() + "|" + radii.getY() + "|" + radii.getZ());
+            }
+        } else if (region instanceof CylinderRegion cylinder) {
+            Vector3 center = cylinder.getCenter();
+            if (center != null) {
+                messages.add("cyl|" + (int) center.getX() + "|" + (int) center.getY() + "|" + (int) center.getZ()
+                        + "|" + cylinder.getRadiusX() + "|" + cylinder.getRadiusZ());
+            }
+            messages.add("mm|" + cylinder.getMinY() + "|" + cylinder.getMaxY());
+        } else if (region instanceof PolyhedronRegion polyhedron) {
+            List<Vector3> vertices = polyhedron.getVertices();
+            for (int i = 0; i < vertices.size(); i++) {
+                addPoint(messages, i, vertices.get(i));
+            }
+            for (int[] face : polyhedron.getFaces()) {
+                StringBuilder message = new StringBuilder("poly");
+                for (int vertex : face) message.append('|').append(vertex);
+                messages.add(message.toString());
+            }
+        }
+        messages.replaceAll(message -> PREFIX + message);
+        return messages;
+    }
+
+    private static void addPoint(List<String> messages, int id, Vector3 point) {
+        if (point == null) return;
+        messages.add("p|" + id + "|" + point.getX() + "|" + point.getY() + "|" + point.getZ() + "|0");
+    }
+}
@@ -9,7 +9,8 @@ import org.bukkit.entity.Player;
 
 /**
  * Handles sending MiniMessage formatted messages.
- * Supports translations via LanguageManager.
+ * Supports translations via LanguageManager; translated messages come
+ * from precompiled templates instead of being parsed on every send.
  */
 public class MessageUtil {
 
@@ -41,8 +42,7 @@ public class MessageUtil {
         }
 
         LanguageManager langManager = plugin.getLanguageManager();
-        String message = langManager.getMessage(player, key, args);
-        sendMessage(player, message);
+        player.sendMessage(langManager.getComponent(player, key, args));
     }
 
     // send translated message to sender (player or console)
@@ -56,8 +56,7 @@ public class MessageUtil {
             }
 
             LanguageManager langManager = plugin.getLanguageManager();
-            String message = langManager.getMessage(langManager.getDefaultLanguage(), key, args);
-            sendMessage(sender, message);
+            sender.sendMessage(langManager.getComponent(langManager.getDefaultLanguage(), key, args));
         }
     }
 
@@ -0,0 +1,68 @@
+package dev.twme.worldeditdisplay.display;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import dev.twme.worldeditdisplay.display.packet.RecordingPacketSink;
+import dev.twme.worldeditdisplay.display.renderer.RegionRenderer;
+import dev.twme.worldeditdisplay.harness.HeadlessServer;
+import dev.twme.worldeditdisplay.harness.RenderBudgets;
+import dev.twme.worldeditdisplay.harness.RenderScenario;
+
+/**
+ * Renders each harness scenario once and holds its entity, packet and
+ * byte counts to render-budgets.properties
+ */
+class RenderBudgetTest {
+
+    private static HeadlessServer harness;
+    private static RenderBudgets budgets;
+
+    @BeforeAll
+    static void start() {
+        harness = HeadlessServer.start();
+        budgets = RenderBudgets.load();
+    }
+
+    @AfterAll
+    static void stop() {
+        harness.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(RenderScenario.class)
+    void staysWithinBudget(RenderScenario scenario) {
+        RecordingPacketSink sink = new RecordingPacketSink(null, true);
+        PlayerMock player = scenario.faceMode()
+                ? harness.join(scenario.getKey(), sink, harness.faceModeConfig())
+                : harness.join(scenario.getKey(), sink);
+
+        harness.send(player, scenario.messages());
+        harness.settle(sink);
+
+        RegionRenderer<?> renderer = harness.renderer(player);
+        assertNotNull(renderer, scenario.getKey() + " was not rendered");
+        long entities = renderer.getEntityCount();
+        RenderBudgets.Budget budget = budgets.get(scenario.getKey());
+
+        assertTrue(entities > 0, scenario.getKey() + " rendered no entities");
+        assertTrue(entities <= budget.entities(),
+                scenario.getKey() + ": " + entities + " entities, budget " + budget.entities());
+        assertTrue(sink.getPackets() <= budget.packets(),
+                scenario.getKey() + ": " + sink.getPackets() + " packets, budget " + budget.packets());
+        assertTrue(sink.getBytes() <= budget.bytes(),
+                scenario.getKey() + ": " + sink.getBytes() + " bytes, budget " + budget.bytes());
+
+        // once settled every entity has been spawned and given its metadata
+        assertEquals(2 * entities, sink.getPackets(), scenario.getKey() + ": packets per entity");
+
+        harness.quit(player);
+    }
+}
@@ -0,0 +1,39 @@
+package dev.twme.worldeditdisplay.harness;
+
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.logging.Logger;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.PacketEventsAPI;
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+
+import io.github.retrooper.packetevents.impl.netty.NettyManagerImpl;
+
+/**
+ * A PacketEvents API without a server behind it.
+ *
+ * Packet wrappers only need the server version and Netty's buffer
+ * operations to encode themselves; everything else (injection, event
+ * manager, player manager) is a no-op mock. Installed before the plugin
+ * loads, which then leaves it in place.
+ */
+final class HeadlessPacketEvents {
+
+    private HeadlessPacketEvents() {
+    }
+
+    static synchronized void install() {
+        if (PacketEvents.getAPI() != null) return;
+
+        PacketEventsAPI<?> api = mock(PacketEventsAPI.class, RETURNS_DEEP_STUBS);
+        when(api.getServerManager().getVersion()).thenReturn(ServerVersion.getLatest());
+        when(api.getNettyManager()).thenReturn(new NettyManagerImpl());
+        when(api.getLogger()).thenReturn(Logger.getLogger("packetevents"));
+        when(api.isLoaded()).thenReturn(true);
+        when(api.isInitialized()).thenReturn(true);
+        PacketEvents.setAPI(api);
+    }
+}
@@ -0,0 +1,178 @@
+package dev.twme.worldeditdisplay.harness;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bukkit.entity.Player;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import dev.twme.worldeditdisplay.WorldEditDisplay;
+import dev.twme.worldeditdisplay.display.packet.RecordingPacketSink;
+import dev.twme.worldeditdisplay.display.renderer.RegionRenderer;
+import dev.twme.worldeditdisplay.display.renderer.RenderConfig;
+import dev.twme.worldeditdisplay.event.CUIEventArgs;
+import dev.twme.worldeditdisplay.event.CUIMessage;
+import dev.twme.worldeditdisplay.player.PlayerData;
+import dev.twme.worldeditdisplay.resourcepack.GridResourcePack;
+import me.tofaa.entitylib.EntityLib;
+
+/**
+ * The plugin running on a mocked server, for driving renders without a
+ * real server or client.
+ *
+ * Players are MockBukkit players whose display packets go to a
+ * RecordingPacketSink. CUI messages are dispatched the way the inbound
+ * packet listener does, and the scheduler is ticked by hand so the render
+ * scheduler and progressive queue run like they would on the main thread.
+ */
+public final class HeadlessServer implements AutoCloseable {
+
+    // a pass is done once the sink has seen no packets for this many ticks
+    private static final int QUIET_TICKS = 5;
+    private static final int MAX_SETTLE_TICKS = 1200;
+
+    // entity ids of display entities, well clear of any a mocked world hands out
+    private static final int ENTITY_ID_BASE = 1_000_000;
+
+    private final ServerMock server;
+    private final WorldEditDisplay plugin;
+    private GridResourcePack gridPack;
+
+    private HeadlessServer(ServerMock server, WorldEditDisplay plugin) {
+        this.server = server;
+        this.plugin = plugin;
+    }
+
+    /**
+     * Mock a server and load the plugin on it; close the returned harness to tear it down
+     */
+    public static HeadlessServer start() {
+        HeadlessPacketEvents.install();
+
+        ServerMock server = MockBukkit.mock();
+        server.addSimpleWorld("world");
+        // plugin.yml depends on packetevents, which the mocked API stands in for
+        MockBukkit.createMockPlugin("packetevents");
+        WorldEditDisplay plugin = MockBukkit.load(WorldEditDisplay.class);
+
+        // the default provider reserves ids from the server's entity counter
+        AtomicInteger entityIds = new AtomicInteger(ENTITY_ID_BASE);
+        EntityLib.getPlatform().setEntityIdProvider((uuid, type) -> entityIds.incrementAndGet());
+
+        return new HeadlessServer(server, plugin);
+    }
+
+    /**
+     * Add a player with rendering on whose packets go to the sink
+     */
+    public PlayerMock join(String name, RecordingPacketSink sink) {
+        PlayerMock player = server.addPlayer(name);
+        plugin.getRenderManager().setPacketSink(player.getUniqueId(), sink);
+        PlayerData.getPlayerData(player).setRenderingEnabled(true);
+        return player;
+    }
+
+    /**
+     * Add a player with rendering on, drawn with its own render config
+     */
+    public PlayerMock join(String name, RecordingPacketSink sink, RenderConfig config) {
+        PlayerMock player = join(name, sink);
+        plugin.getRenderManager().setRenderConfig(player.getUniqueId(), config);
+        return player;
+    }
+
+    /**
+     * The server's render config with cuboid face mode on, using a grid pack
+     * generated in the plugin's data folder
+     */
+    public RenderConfig faceModeConfig() {
+        if (gridPack == null) {
+            GridResourcePack pack = new GridResourcePack(plugin);
+            try {
+                pack.generate();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            gridPack = pack;
+        }
+        return plugin.getRenderManager().getRenderConfig().withGridPack(gridPack);
+    }
+
+    /**
+     * Remove a player, running the plugin's quit handling
+     */
+    public void quit(PlayerMock player) {
+        player.disconnect();
+        plugin.getRenderManager().removePacketSink(player.getUniqueId());
+        plugin.getRenderManager().removeRenderConfig(player.getUniqueId());
+    }
+
+    /**
+     * Apply CUI messages for the player as if they arrived on its connection
+     */
+    public void send(Player player, List<String> messages) {
+        PlayerData playerData = PlayerData.getPlayerData(player);
+        for (String raw : messages) {
+            CUIMessage message = CUIMessage.parse(raw);
+            playerData.getDispatcher().raiseEvent(new CUIEventArgs(playerData, message.multi(), message.type(), message.params()));
+        }
+    }
+
+    public void tick() {
+        server.getScheduler().performOneTick();
+    }
+
+    /**
+     * Tick until the sink stops receiving packets, i.e. queued renders and
+     * progressive passes are done
+     *
+     * @return ticks it took
+     */
+    public int settle(RecordingPacketSink sink) {
+        long last = -1;
+        int quiet = 0;
+        for (int ticks = 1; ticks <= MAX_SETTLE_TICKS; ticks++) {
+            tick();
+            long packets = sink.getPackets();
+            quiet = packets == last ? quiet + 1 : 0;
+            last = packets;
+            if (quiet >= QUIET_TICKS) return ticks;
+        }
+        throw new IllegalStateException("renders did not settle within " + MAX_SETTLE_TICKS + " ticks");
+    }
+
+    /**
+     * Main selection renderer of the player, null if nothing is rendered
+     */
+    public RegionRenderer<?> renderer(Player player) {
+        return plugin.getRenderManager().getRenderer(player.getUniqueId());
+    }
+
+    /**
+     * Display entities of all the player's selections, main and multi
+     */
+    public int entityCount(Player player) {
+        int entities = 0;
+        for (RegionRenderer<?> renderer : plugin.getRenderManager().renderersOf(player.getUniqueId())) {
+            entities += renderer.getEntityCount();
+        }
+        return entities;
+    }
+
+    public ServerMock getServer() {
+        return server;
+    }
+
+    public WorldEditDisplay getPlugin() {
+        return plugin;
+    }
+
+    @Override
+    public void close() {
+        MockBukkit.unmock();
+    }
+}
@@ -0,0 +1,51 @@
+package dev.twme.worldeditdisplay.harness;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+/**
+ * Per scenario limits on what one render may cost, read from
+ * render-budgets.properties on the test classpath
+ */
+public final class RenderBudgets {
+
+    private static final String RESOURCE = "/render-budgets.properties";
+
+    /**
+     * @param entities display entities the render leaves in place
+     * @param packets packets sent for the render
+     * @param bytes encoded bytes of those packets
+     */
+    public record Budget(long entities, long packets, long bytes) {
+    }
+
+    private final Properties properties;
+
+    private RenderBudgets(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static RenderBudgets load() {
+        Properties properties = new Properties();
+        try (InputStream in = RenderBudgets.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) throw new IllegalStateException(RESOURCE + " not on the classpath");
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new RenderBudgets(properties);
+    }
+
+    public Budget get(String scenario) {
+        return new Budget(value(scenario, "entities"), value(scenario, "packets"), value(scenario, "bytes"));
+    }
+
+    private long value(String scenario, String name) {
+        String key = scenario + "." + name;
+        String value = properties.getProperty(key);
+        if (value == null) throw new IllegalArgumentException("no render budget " + key);
+        return Long.parseLong(value.trim());
+    }
+}
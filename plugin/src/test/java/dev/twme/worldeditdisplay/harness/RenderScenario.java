@@ -0,0 +1,122 @@
+package dev.twme.worldeditdisplay.harness;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed selections, as the CUI messages WorldEdit sends for them, whose
+ * render cost is held to the budgets in render-budgets.properties
+ */
+public enum RenderScenario {
+
+    /**
+     * Two wand clicks: a 17 x 9 x 17 cuboid with its grid
+     */
+    WAND_CLICK("wand_click") {
+        @Override
+        public List<String> messages() {
+            return List.of(
+                    "s|cuboid",
+                    "p|0|0|64|0|1",
+                    "p|1|16|72|16|" + 17 * 9 * 17);
+        }
+    },
+
+    /**
+     * A 40 point poly2d selection 16 blocks high
+     */
+    POLYGON_40("polygon_40") {
+        @Override
+        public List<String> messages() {
+            List<String> messages = new ArrayList<>();
+            messages.add("s|polygon2d");
+            for (int i = 0; i < 40; i++) {
+                double angle = i * Math.PI * 2 / 40;
+                long x = Math.round(Math.cos(angle) * 24);
+                long z = Math.round(Math.sin(angle) * 24);
+                messages.add("p2|" + i + "|" + x + "|" + z + "|" + (i + 1));
+            }
+            messages.add("mm|64|79");
+            return messages;
+        }
+    },
+
+    /**
+     * A convex polyhedron with 200 triangular faces: a bipyramid over a
+     * 100 vertex ring
+     */
+    POLYHEDRON_200("polyhedron_200") {
+        @Override
+        public List<String> messages() {
+            int ring = 100;
+            List<String> messages = new ArrayList<>();
+            messages.add("s|polyhedron");
+            messages.add("p|0|0|96|0|0");
+            messages.add("p|1|0|48|0|0");
+            for (int i = 0; i < ring; i++) {
+                double angle = i * Math.PI * 2 / ring;
+                long x = Math.round(Math.cos(angle) * 32);
+                long z = Math.round(Math.sin(angle) * 32);
+                messages.add("p|" + (i + 2) + "|" + x + "|72|" + z + "|0");
+            }
+            for (int i = 0; i < ring; i++) {
+                int a = i + 2;
+                int b = (i + 1) % ring + 2;
+                messages.add("poly|0|" + a + "|" + b);
+                messages.add("poly|1|" + b + "|" + a);
+            }
+            return messages;
+        }
+    },
+
+    /**
+     * An ellipsoid with 48 x 24 x 48 radii, where segment counts hit their cap
+     */
+    ELLIPSOID_LARGE("ellipsoid_large") {
+        @Override
+        public List<String> messages() {
+            return List.of(
+                    "s|ellipsoid",
+                    "e|0|0|64|0",
+                    "e|1|48.0|24.0|48.0");
+        }
+    },
+
+    /**
+     * A 128 x 64 x 128 cuboid in face mode; with the default grid_thickness
+     * of 0.01 and grid spacings of 12 and 6 its grid is 12 striped planes
+     */
+    CUBOID_FACES("cuboid_faces") {
+        @Override
+        public List<String> messages() {
+            return List.of(
+                    "s|cuboid",
+                    "p|0|0|64|0|1",
+                    "p|1|127|127|127|" + 128 * 64 * 128);
+        }
+
+        @Override
+        public boolean faceMode() {
+            return true;
+        }
+    };
+
+    private final String key;
+
+    RenderScenario(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public abstract List<String> messages();
+
+    /**
+     * Whether the scenario is rendered with cuboid face mode on
+     */
+    public boolean faceMode() {
+        return false;
+    }
+}
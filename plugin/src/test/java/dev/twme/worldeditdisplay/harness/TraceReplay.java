@@ -0,0 +1,88 @@
+package dev.twme.worldeditdisplay.harness;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import dev.twme.worldeditdisplay.display.packet.RecordingPacketSink;
+import dev.twme.worldeditdisplay.metrics.RenderMetrics;
+import dev.twme.worldeditdisplay.trace.CuiTrace;
+
+/**
+ * Replays recorded CUI traces (/wedisplaytrace, slow render dumps) into
+ * the renderers on the headless server and reports what they cost.
+ *
+ * Messages are applied at the tick their recorded time falls in, so the
+ * render scheduler sees them with the cadence they had on the server, but
+ * no wall clock time passes: a replay is deterministic and as fast as the
+ * renders allow.
+ *
+ * Run standalone with the test classpath, e.g. the benchmarks jar:
+ * {@code java -cp benchmarks/target/benchmarks.jar dev.twme.worldeditdisplay.harness.TraceReplay <file.cuitrace>...}
+ */
+public final class TraceReplay {
+
+    private static final long MICROS_PER_TICK = 50_000;
+
+    private static final AtomicInteger PLAYERS = new AtomicInteger();
+
+    /**
+     * @param entities display entities left in place after the last message
+     * @param packets packets sent over the whole replay
+     * @param bytes encoded bytes of those packets
+     */
+    public record Result(String trace, int messages, int ticks, long renders, long entities, long packets, long bytes,
+                         Map<String, Long> packetsByType) {
+    }
+
+    private TraceReplay() {
+    }
+
+    /**
+     * Replay a trace as a new player and remove the player afterwards
+     */
+    public static Result replay(HeadlessServer harness, String name, CuiTrace trace) {
+        RecordingPacketSink sink = new RecordingPacketSink(null, true);
+        PlayerMock player = harness.join("replay-" + PLAYERS.incrementAndGet(), sink);
+
+        RenderMetrics metrics = harness.getPlugin().getRenderMetrics();
+        long renders = metrics.getRendersCompleted();
+
+        int tick = 0;
+        for (CuiTrace.Entry entry : trace.entries()) {
+            for (long due = entry.offsetMicros() / MICROS_PER_TICK; tick < due; tick++) {
+                harness.tick();
+            }
+            harness.send(player, List.of(new String(entry.message(), StandardCharsets.UTF_8)));
+        }
+        tick += harness.settle(sink);
+
+        Result result = new Result(name, trace.entries().size(), tick, metrics.getRendersCompleted() - renders,
+                harness.entityCount(player), sink.getPackets(), sink.getBytes(), sink.getPacketsByType());
+        harness.quit(player);
+        return result;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("usage: TraceReplay <file.cuitrace>...");
+            System.exit(2);
+        }
+
+        try (HeadlessServer harness = HeadlessServer.start()) {
+            for (String arg : args) {
+                Path file = Path.of(arg);
+                Result result = replay(harness, file.getFileName().toString(), CuiTrace.read(file));
+                System.out.printf("%s: %d messages over %d ticks, %d renders, %d entities, %d packets, %d bytes%n",
+                        result.trace(), result.messages(), result.ticks(), result.renders(),
+                        result.entities(), result.packets(), result.bytes());
+                result.packetsByType().forEach((type, count) -> System.out.printf("  %s: %d%n", type, count));
+            }
+        }
+    }
+}
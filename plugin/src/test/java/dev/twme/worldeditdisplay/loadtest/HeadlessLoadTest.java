@@ -0,0 +1,96 @@
+package dev.twme.worldeditdisplay.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import dev.twme.worldeditdisplay.display.packet.RecordingPacketSink;
+import dev.twme.worldeditdisplay.display.renderer.RenderConfig;
+import dev.twme.worldeditdisplay.harness.HeadlessServer;
+
+/**
+ * The /wedisplayloadtest run on the headless server, so it needs no
+ * Minecraft server or player.
+ *
+ * Defaults to a short mixed run that is part of the build; size it with
+ * system properties for a real measurement, e.g.
+ * {@code mvn test -pl plugin -Dtest=HeadlessLoadTest -Dloadtest.players=200 -Dloadtest.seconds=30}.
+ * Other properties: loadtest.rate (messages per player per second),
+ * loadtest.scenario and loadtest.primitive.
+ */
+class HeadlessLoadTest {
+
+    // one server tick
+    private static final long TICK_MILLIS = 50;
+
+    private HeadlessServer harness;
+
+    @BeforeEach
+    void start() {
+        harness = HeadlessServer.start();
+    }
+
+    @AfterEach
+    void stop() {
+        harness.close();
+    }
+
+    @Test
+    void runsWithoutFailures() throws InterruptedException, ExecutionException {
+        LoadTest.Options options = options();
+        PlayerMock anchor = harness.join("loadtest-anchor", new RecordingPacketSink(null, false));
+        LoadTest test = new LoadTest(harness.getPlugin(), anchor, options);
+
+        // messages arrive on the test's worker threads while this thread plays the main thread
+        CompletableFuture<LoadTest.Result> run = CompletableFuture.supplyAsync(() -> {
+            try {
+                return test.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.seconds() + 30L);
+        while (!run.isDone()) {
+            assertTrue(System.nanoTime() < deadline, "load test did not finish");
+            harness.tick();
+            Thread.sleep(TICK_MILLIS);
+        }
+        LoadTest.Result result = run.get();
+        print(result);
+
+        assertEquals(0, result.failures(), "messages that threw");
+        assertTrue(result.messages() > 0, "no messages sent");
+        assertTrue(result.renders() > 0, "no renders ran");
+        assertTrue(result.packets() > 0, "no packets reached the sink");
+    }
+
+    private static LoadTest.Options options() {
+        LoadScenario scenario = LoadScenario.fromKey(System.getProperty("loadtest.scenario", "mixed"));
+        assertNotNull(scenario, "unknown loadtest.scenario");
+        String primitive = System.getProperty("loadtest.primitive");
+        return new LoadTest.Options(
+                Integer.getInteger("loadtest.players", 8),
+                Integer.getInteger("loadtest.seconds", 2),
+                Double.parseDouble(System.getProperty("loadtest.rate", "20")),
+                scenario,
+                primitive != null ? RenderConfig.Primitive.fromKey(primitive) : null);
+    }
+
+    private static void print(LoadTest.Result result) {
+        System.out.printf("load test %s: %d players, %d messages (%.1f/s), %d failures, %d renders, %d entities, %d packets, %d bytes%n",
+                result.options().scenario().getKey(), result.options().players(), result.messages(), result.messagesPerSecond(),
+                result.failures(), result.renders(), result.entities(), result.packets(), result.bytes());
+        System.out.printf("dispatch latency p50 %d us, p95 %d us, p99 %d us, max %d us, allocated %d B/s%n",
+                result.p50Micros(), result.p95Micros(), result.p99Micros(), result.maxMicros(), result.allocatedBytesPerSecond());
+    }
+}
@@ -0,0 +1,69 @@
+package dev.twme.worldeditdisplay.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import dev.twme.worldeditdisplay.harness.HeadlessServer;
+import dev.twme.worldeditdisplay.harness.RenderBudgets;
+import dev.twme.worldeditdisplay.harness.TraceReplay;
+
+/**
+ * Replays every trace in the test resources' traces folder and holds it to
+ * the trace.&lt;name&gt; budgets in render-budgets.properties. A trace
+ * recorded on a server can be added there to guard against regressions on
+ * real sessions.
+ */
+class TraceRegressionTest {
+
+    private static HeadlessServer harness;
+    private static RenderBudgets budgets;
+
+    @BeforeAll
+    static void start() {
+        harness = HeadlessServer.start();
+        budgets = RenderBudgets.load();
+    }
+
+    @AfterAll
+    static void stop() {
+        harness.close();
+    }
+
+    static Stream<Path> traces() throws IOException, URISyntaxException {
+        Path directory = Path.of(TraceRegressionTest.class.getResource("/traces").toURI());
+        return Files.list(directory)
+                .filter(file -> file.getFileName().toString().endsWith(CuiTraceManager.EXTENSION))
+                .sorted();
+    }
+
+    @ParameterizedTest
+    @MethodSource("traces")
+    void staysWithinBudget(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        name = name.substring(0, name.length() - CuiTraceManager.EXTENSION.length());
+
+        CuiTrace trace = CuiTrace.read(file);
+        TraceReplay.Result result = TraceReplay.replay(harness, name, trace);
+        RenderBudgets.Budget budget = budgets.get("trace." + name);
+
+        assertEquals(trace.entries().size(), result.messages());
+        assertTrue(result.renders() > 0, name + " rendered nothing");
+        assertTrue(result.entities() <= budget.entities(),
+                name + ": " + result.entities() + " entities, budget " + budget.entities());
+        assertTrue(result.packets() <= budget.packets(),
+                name + ": " + result.packets() + " packets, budget " + budget.packets());
+        assertTrue(result.bytes() <= budget.bytes(),
+                name + ": " + result.bytes() + " bytes, budget " + budget.bytes());
+    }
+}
@@ -1,222 +0,0 @@
-package dev.twme.worldeditdisplay.display;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.logging.Level;
-
-import dev.twme.worldeditdisplay.WorldEditDisplay;
-import org.bukkit.entity.Player;
-
-import dev.twme.worldeditdisplay.display.renderer.CuboidRenderer;
-import dev.twme.worldeditdisplay.display.renderer.CylinderRenderer;
-import dev.twme.worldeditdisplay.display.renderer.EllipsoidRenderer;
-import dev.twme.worldeditdisplay.display.renderer.PolygonRenderer;
-import dev.twme.worldeditdisplay.display.renderer.PolyhedronRenderer;
-import dev.twme.worldeditdisplay.display.renderer.RegionRenderer;
-import dev.twme.worldeditdisplay.player.PlayerData;
-import dev.twme.worldeditdisplay.region.CuboidRegion;
-import dev.twme.worldeditdisplay.region.CylinderRegion;
-import dev.twme.worldeditdisplay.region.EllipsoidRegion;
-import dev.twme.worldeditdisplay.region.PolygonRegion;
-import dev.twme.worldeditdisplay.region.PolyhedronRegion;
-import dev.twme.worldeditdisplay.region.Region;
-
-/**
- * keeps track of player renderers
- * handles main and extra regions for players
- */
-public class RenderManager {
-
-    private final WorldEditDisplay plugin;
-
-    private final Map<UUID, RegionRenderer> mainRenderers;
-    private final Map<UUID, Map<UUID, RegionRenderer>> multiRenderers;
-    private final Map<Class<? extends Region>, Class<? extends RegionRenderer>> rendererTypes;
-
-    public RenderManager(WorldEditDisplay plugin) {
-        this.plugin = plugin;
-        this.mainRenderers = new ConcurrentHashMap<>();
-        this.multiRenderers = new ConcurrentHashMap<>();
-        this.rendererTypes = new HashMap<>();
-
-        registerRendererTypes();
-        plugin.getLogger().info("RenderManager started");
-    }
-
-    private void registerRendererTypes() {
-        rendererTypes.put(CuboidRegion.class, CuboidRenderer.class);
-        rendererTypes.put(PolygonRegion.class, PolygonRenderer.class);
-        rendererTypes.put(EllipsoidRegion.class, EllipsoidRenderer.class);
-        rendererTypes.put(CylinderRegion.class, CylinderRenderer.class);
-        rendererTypes.put(PolyhedronRegion.class, PolyhedronRenderer.class);
-
-        plugin.getLogger().info("renderer types registered: " + rendererTypes.size());
-    }
-
-    /**
-     * update renders for one player
-     */
-    public void updateRender(Player player) {
-        UUID playerId = player.getUniqueId();
-        PlayerData playerData = PlayerData.getPlayerData(player);
-
-        if (playerData == null) {
-            plugin.getLogger().warning("no player data: " + player.getName());
-            return;
-        }
-
-        if (!playerData.isRenderingEnabled()) {
-            clearRender(playerId);
-            return;
-        }
-
-        updateMainSelection(player, playerId, playerData.getSelection());
-        updateMultiSelections(player, playerId, playerData.getMultiRegions());
-    }
-
-    private void updateMainSelection(Player player, UUID playerId, Region mainSelection) {
-        RegionRenderer currentRenderer = mainRenderers.get(playerId);
-
-        if (mainSelection == null) {
-            if (currentRenderer != null) {
-                currentRenderer.clear();
-                mainRenderers.remove(playerId);
-            }
-            return;
-        }
-
-        if (currentRenderer != null && !currentRenderer.getRegionType().equals(mainSelection.getClass())) {
-            currentRenderer.clear();
-            mainRenderers.remove(playerId);
-            currentRenderer = null;
-        }
-
-        if (currentRenderer == null) {
-            currentRenderer = createRenderer(player, mainSelection);
-            if (currentRenderer != null) mainRenderers.put(playerId, currentRenderer);
-            else {
-                plugin.getLogger().warning("cannot make renderer: " + mainSelection.getClass().getSimpleName());
-                return;
-            }
-        }
-
-        try {
-            currentRenderer.render(mainSelection);
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "main render fail: " + player.getName(), e);
-        }
-    }
-
-    private void updateMultiSelections(Player player, UUID playerId, Map<UUID, Region> multiRegions) {
-        Map<UUID, RegionRenderer> playerMultiRenderers = multiRenderers.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>());
-
-        // remove old regions
-        playerMultiRenderers.keySet().removeIf(regionId -> {
-            if (!multiRegions.containsKey(regionId)) {
-                RegionRenderer renderer = playerMultiRenderers.remove(regionId);
-                if (renderer != null) renderer.clear();
-                return true;
-            }
-            return false;
-        });
-
-        for (Map.Entry<UUID, Region> entry : multiRegions.entrySet()) {
-            UUID regionId = entry.getKey();
-            Region region = entry.getValue();
-            if (region == null) continue;
-
-            RegionRenderer renderer = playerMultiRenderers.get(regionId);
-
-            if (renderer != null && !renderer.getRegionType().equals(region.getClass())) {
-                renderer.clear();
-                playerMultiRenderers.remove(regionId);
-                renderer = null;
-            }
-
-            if (renderer == null) {
-                renderer = createRenderer(player, region);
-                if (renderer != null) playerMultiRenderers.put(regionId, renderer);
-                else {
-                    plugin.getLogger().warning("cannot make multi renderer: " + region.getClass().getSimpleName());
-                    continue;
-                }
-            }
-
-            try {
-                renderer.render(region);
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.SEVERE, "multi render fail: " + player.getName(), e);
-            }
-        }
-    }
-
-    public void clearRender(UUID playerId) {
-        RegionRenderer mainRenderer = mainRenderers.remove(playerId);
-        if (mainRenderer != null) mainRenderer.clear();
-
-        Map<UUID, RegionRenderer> playerMultiRenderers = multiRenderers.remove(playerId);
-        if (playerMultiRenderers != null) {
-            playerMultiRenderers.values().forEach(RegionRenderer::clear);
-            playerMultiRenderers.clear();
-        }
-    }
-
-    public void clearAllRenders() {
-        mainRenderers.values().forEach(RegionRenderer::clear);
-        mainRenderers.clear();
-
-        multiRenderers.values().forEach(playerRenderers -> {
-            playerRenderers.values().forEach(RegionRenderer::clear);
-            playerRenderers.clear();
-        });
-        multiRenderers.clear();
-    }
-
-    private RegionRenderer createRenderer(Player player, Region region) {
-        Class<? extends RegionRenderer> rendererClass = rendererTypes.get(region.getClass());
-        if (rendererClass == null) {
-            plugin.getLogger().warning("renderer not found: " + region.getClass().getSimpleName());
-            return null;
-        }
-
-        try {
-            var playerSettings = plugin.getPlayerSettingsManager().getSettings(player.getUniqueId());
-            return rendererClass
-                    .getConstructor(WorldEditDisplay.class, Player.class, dev.twme.worldeditdisplay.config.PlayerRenderSettings.class)
-                    .newInstance(plugin, player, playerSettings);
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "cannot create renderer: " + rendererClass.getSimpleName(), e);
-            return null;
-        }
-    }
-
-    public RegionRenderer getRenderer(UUID playerId) {
-        return mainRenderers.get(playerId);
-    }
-
-    public boolean hasActiveRender(UUID playerId) {
-        boolean hasMain = mainRenderers.containsKey(playerId);
-        boolean hasMulti = multiRenderers.containsKey(playerId) && !multiRenderers.get(playerId).isEmpty();
-        return hasMain || hasMulti;
-    }
-
-    public int getActiveRenderCount() {
-        int mainCount = mainRenderers.size();
-        int multiCount = multiRenderers.values().stream().mapToInt(Map::size).sum();
-        return mainCount + multiCount;
-    }
-
-    public void shutdown() {
-        plugin.getLogger().info("shutdown render manager");
-        clearAllRenders();
-    }
-
-    public void refreshPlayerRenderer(Player player) {
-        UUID playerId = player.getUniqueId();
-        clearRender(playerId);
-        updateRender(player);
-        plugin.getLogger().fine("refreshed renderer for " + player.getName());
-    }
-}